@@ -11,14 +11,100 @@ repositories {
     mavenCentral()
 }
 
+// JMH benchmarks of client-side hot paths (src/jmh/java), can use both main and test code
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
     implementation("tools.jackson.core:jackson-databind:3.0.4")
     implementation("io.rest-assured:rest-assured:6.0.0")
     implementation("io.qameta.allure:allure-rest-assured:2.32.0")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
 
     testImplementation("org.testng:testng:7.12.0")
     testImplementation("io.qameta.allure:allure-testng:2.32.0")
     testImplementation("ch.qos.logback:logback-classic:1.5.32")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+// Gradle properties forwarded to the test JVM as system properties, e.g. ./gradlew testFull -Phttp.pool.enabled=true
+val forwardedTestProperties = listOf(
+    "http.pool.enabled",
+    "http.pool.max.total",
+    "http.pool.max.per.route",
+    "http.pool.idle.timeout.seconds",
+    "virtual.threads.enabled",
+    "virtual.threads.max.concurrency",
+    "load.scenarios",
+    "load.arrivals.per.second",
+    "load.duration.seconds",
+    "load.max.in.flight",
+    "latency.expected.interval.millis",
+    "latency.log.dir",
+    "players.index.ttl.millis",
+    "bulk.max.in.flight",
+    "cleanup.workers",
+    "cleanup.batch.size",
+    "cleanup.max.attempts",
+    "cleanup.timeout.seconds",
+    "actor.pool.size",
+    "data.seed",
+    "logging.profile",
+    "logging.sample.every",
+    "throttle.per.second",
+    "throttle.burst",
+    "throttle.max.in.flight",
+    "retry.max.attempts",
+    "retry.base.delay.millis",
+    "retry.max.delay.millis",
+    "retry.statuses",
+    "stub.enabled",
+    "stub.port",
+    "stub.latency.millis",
+    "stub.latency.jitter.millis",
+    "stub.error.rate",
+    "shadow.check.interval.seconds",
+    "shadow.settle.timeout.seconds",
+    "linearizability.players",
+    "linearizability.clients",
+    "linearizability.operations",
+    "linearizability.read.ratio",
+    "linearizability.max.steps"
+)
+
+tasks.withType<Test>().configureEach {
+    forwardedTestProperties.forEach { key ->
+        providers.gradleProperty(key).orNull?.let { systemProperty(key, it) }
+    }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Replays the API test scenarios at a constant arrival rate and reports latency percentiles."
+    classpath = sourceSets.test.get().runtimeClasspath
+    mainClass.set("load.LoadDriver")
+    // full request logging would dominate client CPU at load rates
+    systemProperty("logging.profile", "FAILURES_ONLY")
+    systemProperty("shadow.check.interval.seconds", "10")
+    forwardedTestProperties.forEach { key ->
+        providers.gradleProperty(key).orNull?.let { systemProperty(key, it) }
+    }
+}
+
+tasks.register<JavaExec>("linearizabilityTest") {
+    description = "Runs concurrent gets and updates on a few shared players and checks the recorded history for linearizability."
+    classpath = sourceSets.test.get().runtimeClasspath
+    mainClass.set("load.LinearizabilityDriver")
+    systemProperty("logging.profile", "FAILURES_ONLY")
+    forwardedTestProperties.forEach { key ->
+        providers.gradleProperty(key).orNull?.let { systemProperty(key, it) }
+    }
 }
 
 tasks.test {
@@ -43,6 +129,26 @@ tasks.register<Test>("testSanity") {
     }
 }
 
+tasks.register<Test>("testUnit") {
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useTestNG {
+        suites("src/test/resources/suites/unit.xml")
+    }
+}
+
+// ./gradlew jmh -Pjmh.args="GetAllDeserialization -p playerCount=10000"
+tasks.register<JavaExec>("jmh") {
+    description = "Runs JMH benchmarks with the GC profiler and writes JSON results to build/reports/jmh."
+    group = "verification"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { resultFile.parentFile.mkdirs() }
+    args("-prof", "gc", "-rf", "json", "-rff", resultFile.path)
+    providers.gradleProperty("jmh.args").orNull?.let { args(it.split(" ")) }
+}
+
 allure {
     version.set("3.0.2")
 
@@ -0,0 +1,50 @@
+package benchmarks;
+
+import dto.PlayerDetailsDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import utils.PlayerQueryTemplate;
+import utils.TestDataGenerator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning PlayerDetailsDto into query params: the generic map conversion vs the precomputed template.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreatePlayerParamsBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private PlayerDetailsDto playerDetails;
+
+    @Setup
+    public void setUp() {
+        playerDetails = TestDataGenerator.getRandomPlayerDetails();
+    }
+
+    @Benchmark
+    public Map<String, Object> convertValueToQueryParams() {
+        return mapper.convertValue(playerDetails, new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public String queryTemplate() {
+        return PlayerQueryTemplate.toQueryString(playerDetails);
+    }
+}
@@ -0,0 +1,65 @@
+package benchmarks;
+
+import dto.PlayerGetAllResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.ObjectMapper;
+import utils.PlayerSchema;
+import utils.PlayerSchemas;
+import utils.PlayerStreamParser;
+import utils.SchemaReport;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson binding of the full /player/get/all body into PlayerGetAllResponseDto, compared with streaming parsing
+ * and with schema validation on the token stream, which binds nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GetAllDeserializationBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int playerCount;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final PlayerStreamParser streamParser = new PlayerStreamParser(mapper);
+    private final PlayerSchema schema = PlayerSchemas.PLAYER_ITEM;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = PlayerJson.getAllResponse(playerCount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PlayerGetAllResponseDto bindGetAllResponse() {
+        return mapper.readValue(body, PlayerGetAllResponseDto.class);
+    }
+
+    @Benchmark
+    public long streamGetAllResponse(Blackhole blackhole) {
+        return streamParser.forEachPlayer(new ByteArrayInputStream(body), blackhole::consume);
+    }
+
+    @Benchmark
+    public SchemaReport validateGetAllResponse() {
+        return schema.validatePlayers(new ByteArrayInputStream(body), 100);
+    }
+}
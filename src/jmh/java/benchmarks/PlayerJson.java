@@ -0,0 +1,38 @@
+package benchmarks;
+
+import dto.PlayerDetailsDto;
+import dto.PlayerGetAllResponseDto;
+import dto.PlayerItemDto;
+import tools.jackson.databind.ObjectMapper;
+import utils.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test payloads shared by the benchmarks.
+ */
+final class PlayerJson {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private PlayerJson() {
+    }
+
+    static String getAllResponse(int playerCount) {
+        List<PlayerItemDto> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            PlayerDetailsDto details = TestDataGenerator.getRandomPlayerDetails();
+            players.add(new PlayerItemDto(details.age(), details.gender().getValue(), (long) i,
+                    details.role().getValue(), details.screenName() + "_" + i));
+        }
+        return MAPPER.writeValueAsString(new PlayerGetAllResponseDto(players));
+    }
+
+    static String createResponse(PlayerDetailsDto details) {
+        return """
+                {"id":1,"age":%d,"gender":"%s","login":"%s","password":"%s","role":"%s","screenName":"%s"}"""
+                .formatted(details.age(), details.gender().getValue(), details.login(), details.password(),
+                        details.role().getValue(), details.screenName());
+    }
+}
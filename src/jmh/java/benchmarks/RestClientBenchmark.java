@@ -0,0 +1,88 @@
+package benchmarks;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerDetailsDto;
+import dto.PlayerGetAllResponseDto;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.LoggingProfile;
+import utils.RestClient;
+import utils.TestDataGenerator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side request path of RestClient (request building, throttle permit, latency recording, RestClient.as)
+ * against a local stub server. The client uses {@link LoggingProfile#OFF}, so no logging or capture filters run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestClientBenchmark {
+
+    @Param({"100", "10000"})
+    public int playerCount;
+
+    private StubHttpServer server;
+    private RestClient restClient;
+    private PlayerDetailsDto playerDetails;
+    private Response getAllResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        playerDetails = TestDataGenerator.getRandomPlayerDetails();
+        server = StubHttpServer.start(Map.of(
+                "/player/create", PlayerJson.createResponse(playerDetails),
+                "/player/get/all", PlayerJson.getAllResponse(playerCount)));
+        // measures the request path itself, not console and Allure logging
+        restClient = RestClient.builder(server.baseUrl()).logging(LoggingProfile.OFF).build();
+        getAllResponse = restClient.getAllPlayers();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Response createPlayer() {
+        return restClient.createPlayer("supervisor", playerDetails);
+    }
+
+    @Benchmark
+    public PlayerGetAllResponseDto getAllPlayersAs() {
+        return RestClient.as(restClient.getAllPlayers(), PlayerGetAllResponseDto.class);
+    }
+
+    /**
+     * RestClient.as alone, on an already received response.
+     */
+    @Benchmark
+    public PlayerGetAllResponseDto asOnly() {
+        return RestClient.as(getAllResponse, PlayerGetAllResponseDto.class);
+    }
+
+    /**
+     * Create response parsing, the most common RestClient.as call in the tests.
+     */
+    @Benchmark
+    public PlayerCreateResponseDto createPlayerAs() {
+        return RestClient.as(restClient.createPlayer("supervisor", playerDetails), PlayerCreateResponseDto.class);
+    }
+}
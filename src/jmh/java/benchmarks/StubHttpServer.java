@@ -0,0 +1,56 @@
+package benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal local HTTP server returning canned JSON bodies, so client-side benchmarks don't depend on the network.
+ */
+final class StubHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private StubHttpServer(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts a server on a random free port that answers every request under each route's path with its body.
+     * @param routes body by path prefix; the longest matching prefix wins
+     */
+    static StubHttpServer start(Map<String, String> routes) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            routes.forEach((path, body) -> {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                server.createContext(path, exchange -> {
+                    exchange.getRequestBody().readAllBytes();
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, bytes.length);
+                    exchange.getResponseBody().write(bytes);
+                    exchange.close();
+                });
+            });
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.start();
+            return new StubHttpServer(server);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start stub server", e);
+        }
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
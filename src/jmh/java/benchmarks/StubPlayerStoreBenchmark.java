@@ -0,0 +1,122 @@
+package benchmarks;
+
+import entities.Gender;
+import entities.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.StubPlayer;
+import utils.StubPlayerStore;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of the stub server's player store: id lookups, compare-and-set updates and create/delete,
+ * single-threaded and contended, plus the cost of a consistent get/all snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StubPlayerStoreBenchmark {
+
+    private static final AtomicInteger threadIds = new AtomicInteger();
+
+    @Param({"10000", "1000000"})
+    public int playerCount;
+
+    private StubPlayerStore store;
+
+    @Setup
+    public void setUp() {
+        store = new StubPlayerStore();
+        for (int i = 0; i < playerCount; i++) {
+            store.create(player("seed_" + i));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadNames {
+        private String prefix;
+        private long sequence;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            prefix = "bench_" + threadIds.incrementAndGet() + "_";
+        }
+
+        String next() {
+            return prefix + sequence++;
+        }
+    }
+
+    @Benchmark
+    public Optional<StubPlayer> getById() {
+        return store.get(randomId());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Optional<StubPlayer> getByIdContended() {
+        return store.get(randomId());
+    }
+
+    @Benchmark
+    public boolean compareAndSetAge() {
+        return bumpAge(randomId());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean compareAndSetAgeContended() {
+        return bumpAge(randomId());
+    }
+
+    @Benchmark
+    public boolean createAndDelete(ThreadNames names) {
+        return store.delete(store.create(player(names.next())).id());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean createAndDeleteContended(ThreadNames names) {
+        return store.delete(store.create(player(names.next())).id());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<StubPlayer> snapshot() {
+        return store.all();
+    }
+
+    private boolean bumpAge(long id) {
+        StubPlayer current = store.get(id).orElseThrow();
+        var updated = new StubPlayer(id, current.login(), current.password(), current.screenName(),
+                current.gender(), current.age() == 59 ? 17 : current.age() + 1, current.role());
+        return store.compareAndSet(current, updated);
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, playerCount + 1);
+    }
+
+    private static StubPlayer player(String name) {
+        return new StubPlayer(0, name, "password1", name, Gender.MALE, 30, Role.USER);
+    }
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+import dto.PlayerDetailsDto;
+import entities.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.TestDataGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test data generation throughput, single-threaded and contended.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestDataGeneratorBenchmark {
+
+    @Benchmark
+    public PlayerDetailsDto randomPlayerDetails() {
+        return TestDataGenerator.getRandomPlayerDetails(Role.USER);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public PlayerDetailsDto randomPlayerDetailsContended() {
+        return TestDataGenerator.getRandomPlayerDetails(Role.USER);
+    }
+
+    @Benchmark
+    public String uniqueLogin() {
+        return TestDataGenerator.getRandomLogin();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uniqueLoginContended() {
+        return TestDataGenerator.getRandomLogin();
+    }
+}
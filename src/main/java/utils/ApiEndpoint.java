@@ -0,0 +1,22 @@
+package utils;
+
+/**
+ * Player API endpoints, used as a key for per-endpoint metrics.
+ */
+public enum ApiEndpoint {
+    CREATE("/player/create/{editor}"),
+    GET("/player/get"),
+    GET_ALL("/player/get/all"),
+    UPDATE("/player/update/{editor}/{id}"),
+    DELETE("/player/delete/{editor}");
+
+    private final String path;
+
+    ApiEndpoint(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,257 @@
+package utils;
+
+import dto.PlayerDetailsDto;
+import dto.PlayerItemDto;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Non-blocking counterpart of {@link RestClient} built on {@link HttpClient}.
+ * Every call returns immediately with a future, so a single JVM can keep thousands of requests in flight.
+ * Endpoints and request shapes are the same as in {@link RestClient}, responses are mapped to the same DTOs via {@link #as}.
+ */
+public class AsyncRestClient implements AutoCloseable {
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final String JSON = "application/json";
+
+    private static final Map<String, AsyncRestClient> SHARED = new ConcurrentHashMap<>();
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final boolean ownsHttpClient;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final PlayerStreamParser streamParser = new PlayerStreamParser(mapper);
+    // parsing blocks on socket reads, so it runs on virtual threads instead of the common pool
+    private final ExecutorService parsingExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AsyncRestClient(String baseUrl) {
+        this(baseUrl, HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
+                .build(), true);
+    }
+
+    /**
+     * Allows sharing a preconfigured {@link HttpClient} (executor, proxy, timeouts) between clients.
+     * The caller keeps ownership of it: {@link #close()} does not shut it down.
+     */
+    public AsyncRestClient(String baseUrl, HttpClient httpClient) {
+        this(baseUrl, httpClient, false);
+    }
+
+    private AsyncRestClient(String baseUrl, HttpClient httpClient, boolean ownsHttpClient) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = httpClient;
+        this.ownsHttpClient = ownsHttpClient;
+    }
+
+    /**
+     * Returns the client for the given base url, creating it on first use, so one {@link HttpClient} and parsing
+     * executor serve the whole run. Closed by {@link #shutdownAll()}, not by its users.
+     */
+    public static AsyncRestClient shared(String baseUrl) {
+        return SHARED.computeIfAbsent(baseUrl, AsyncRestClient::new);
+    }
+
+    /**
+     * Closes all shared clients. Should be called once, when no more requests are expected (e.g. at suite end).
+     */
+    public static void shutdownAll() {
+        SHARED.values().forEach(AsyncRestClient::close);
+        SHARED.clear();
+    }
+
+    /**
+     * Stops accepting requests and releases the parsing executor and, if this client created it, the {@link HttpClient}.
+     * Requests and parsing already in progress are allowed to finish; this method does not wait for them.
+     */
+    @Override
+    public void close() {
+        parsingExecutor.shutdown();
+        if (ownsHttpClient) {
+            httpClient.shutdown();
+        }
+    }
+
+    /**
+     * Same as {@link RestClient#createPlayer(String, PlayerDetailsDto)}: the query is built by {@link PlayerQueryTemplate}.
+     * @param editor - the role of the user creating the player
+     */
+    public CompletableFuture<HttpResponse<String>> createPlayer(String editor, PlayerDetailsDto playerDetails) {
+        var request = request("/player/create/" + encode(editor) + PlayerQueryTemplate.toQueryString(playerDetails))
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    /**
+     * Accepts player details as a generic object, which will be converted to query parameters (same as {@link RestClient#createPlayer}).
+     * @param editor - the role of the user creating the player
+     */
+    public CompletableFuture<HttpResponse<String>> createPlayer(String editor, Object playerDetails) {
+        Map<String, Object> params = mapper.convertValue(playerDetails, new TypeReference<>() {});
+        var request = request("/player/create/" + encode(editor) + toQueryString(params))
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    /**
+     * GET: Uses POST with playerId in the body. Accepts arbitrary types for playerId (for negative tests).
+     * @param playerId id of the player to get
+     */
+    public CompletableFuture<HttpResponse<String>> getPlayer(Object playerId) {
+        var request = request("/player/get")
+                .POST(jsonBody(Map.of("playerId", playerId)))
+                .build();
+        return send(request);
+    }
+
+    public CompletableFuture<HttpResponse<String>> getAllPlayers() {
+        return send(getAllRequest());
+    }
+
+    /**
+     * Streams /player/get/all: players are parsed from the body as it arrives and handed to the consumer one by one,
+     * without buffering the body or the list.
+     * @return future with the number of players read; fails if the response status is not 200
+     */
+    public CompletableFuture<Long> streamAllPlayers(Consumer<PlayerItemDto> consumer) {
+        return sendStreaming(getAllRequest())
+                .thenApplyAsync(body -> streamParser.forEachPlayer(body, consumer), parsingExecutor);
+    }
+
+    /**
+     * Validates /player/get/all against {@code schema} while the body arrives, without binding the players.
+     * @param maxReported maximum number of violation messages kept
+     * @return future with the report; fails if the response status is not 200
+     */
+    public CompletableFuture<SchemaReport> validateAllPlayers(PlayerSchema schema, int maxReported) {
+        return sendStreaming(getAllRequest())
+                .thenApplyAsync(body -> schema.validatePlayers(body, maxReported), parsingExecutor);
+    }
+
+    /**
+     * Lazy {@link Stream} over /player/get/all. Must be closed by the caller to release the connection.
+     */
+    public CompletableFuture<Stream<PlayerItemDto>> openPlayersStream() {
+        return sendStreaming(getAllRequest())
+                .thenApplyAsync(streamParser::stream, parsingExecutor);
+    }
+
+    /**
+     * UPDATE: Uses PATCH with path parameters and body.
+     * @param editor login of the performing user
+     * @param id ID of the player to be updated
+     * @param body Partial player data for update
+     */
+    public CompletableFuture<HttpResponse<String>> updatePlayer(String editor, long id, Object body) {
+        var request = request("/player/update/" + encode(editor) + "/" + id)
+                .method("PATCH", jsonBody(body))
+                .build();
+        return send(request);
+    }
+
+    /**
+     * DELETE: Uses DELETE with editor in path and playerId in body. Accepts arbitrary object for playerId.
+     * @param editor login of the performing user
+     * @param playerId id of the player to delete (can be non-Long for negative tests)
+     */
+    public CompletableFuture<HttpResponse<String>> deletePlayer(String editor, Object playerId) {
+        var request = request("/player/delete/" + encode(editor))
+                .method("DELETE", jsonBody(Map.of("playerId", playerId)))
+                .build();
+        return send(request);
+    }
+
+    /**
+     * A helper method to convert response to a DTO and assert that the body is not empty.
+     */
+    public <T> T as(HttpResponse<String> response, Class<T> cls) {
+        String body = response.body();
+
+        if (body == null || body.isBlank()) {
+            throw new AssertionError(
+                    String.format("Expected response body for %s, but got an empty string! Status code: %d",
+                            cls.getSimpleName(), response.statusCode())
+            );
+        }
+
+        return mapper.readValue(body, cls);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", JSON)
+                .header("Accept", JSON);
+    }
+
+    private HttpRequest getAllRequest() {
+        return request("/player/get/all")
+                .GET()
+                .build();
+    }
+
+    private CompletableFuture<InputStream> sendStreaming(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        closeQuietly(response.body());
+                        throw new CompletionException(new IllegalStateException(
+                                "Expected status 200 for %s, but got %d".formatted(request.uri(), response.statusCode())));
+                    }
+                    return response.body();
+                });
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            // nothing to do, the error response is reported by the caller
+        }
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) {
+        return HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body));
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Null values are sent as a bare parameter name, the same way RestAssured does it for query params.
+     */
+    private static String toQueryString(Map<String, Object> params) {
+        if (params == null || params.isEmpty()) {
+            return "";
+        }
+        var joiner = new StringJoiner("&", "?", "");
+        params.forEach((name, value) -> joiner.add(value == null
+                ? encode(name)
+                : encode(name) + "=" + encode(String.valueOf(value))));
+        return joiner.toString();
+    }
+
+    private static String encode(String value) {
+        return PlayerQueryTemplate.encode(value);
+    }
+}
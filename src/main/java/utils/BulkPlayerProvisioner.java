@@ -0,0 +1,86 @@
+package utils;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerDetailsDto;
+
+import java.net.HttpURLConnection;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Creates many players at once with a bounded number of requests in flight.
+ * Requests are pipelined through {@link AsyncRestClient}: a new one is sent as soon as any previous one completes,
+ * so throughput is limited by the server and {@code maxInFlight}, not by round-trip time.
+ */
+public class BulkPlayerProvisioner {
+
+    private final AsyncRestClient client;
+    private final int maxInFlight;
+
+    public BulkPlayerProvisioner(AsyncRestClient client, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight requests must be positive, got %d".formatted(maxInFlight));
+        }
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Creates all players and waits for every request to finish. A failed item does not stop the others.
+     * @param editor login of the creating user
+     * @return one result per submitted item, in the submitted order
+     */
+    public List<ProvisionResult> createPlayers(String editor, List<PlayerDetailsDto> players) {
+        var results = new ProvisionResult[players.size()];
+        var futures = new ArrayList<CompletableFuture<?>>(players.size());
+        var permits = new Semaphore(maxInFlight);
+
+        for (int i = 0; i < players.size(); i++) {
+            int index = i;
+            PlayerDetailsDto request = players.get(i);
+            permits.acquireUninterruptibly();
+
+            CompletableFuture<?> future;
+            try {
+                future = client.createPlayer(editor, request)
+                        .handle((response, failure) -> results[index] = toResult(index, request, response, failure));
+            } catch (RuntimeException e) {
+                results[index] = failed(index, request, e.toString());
+                permits.release();
+                continue;
+            }
+            future.whenComplete((ignored, failure) -> permits.release());
+            futures.add(future);
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return Arrays.asList(results);
+    }
+
+    private ProvisionResult toResult(int index, PlayerDetailsDto request, HttpResponse<String> response, Throwable failure) {
+        if (failure != null) {
+            return failed(index, request, unwrap(failure).toString());
+        }
+        if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+            return failed(index, request, "HTTP %d: %s".formatted(response.statusCode(), response.body()));
+        }
+        try {
+            return new ProvisionResult(index, request, client.as(response, PlayerCreateResponseDto.class), null);
+        } catch (RuntimeException | AssertionError e) {
+            return failed(index, request, e.toString());
+        }
+    }
+
+    private static ProvisionResult failed(int index, PlayerDetailsDto request, String error) {
+        return new ProvisionResult(index, request, null, error);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
@@ -0,0 +1,27 @@
+package utils;
+
+import java.time.Duration;
+
+/**
+ * Settings of the shared keep-alive connection pool used by {@link RestClient} in pooled mode.
+ * @param maxTotal maximum number of open connections across all routes
+ * @param maxPerRoute maximum number of open connections to a single host
+ * @param idleTimeout connections idle for longer than this are closed by the evictor
+ */
+public record ConnectionPoolConfig(
+        int maxTotal,
+        int maxPerRoute,
+        Duration idleTimeout
+) {
+
+    public ConnectionPoolConfig {
+        if (maxTotal <= 0 || maxPerRoute <= 0) {
+            throw new IllegalArgumentException(
+                    "Pool limits must be positive, got maxTotal=%d, maxPerRoute=%d".formatted(maxTotal, maxPerRoute));
+        }
+        if (maxPerRoute > maxTotal) {
+            throw new IllegalArgumentException(
+                    "maxPerRoute (%d) cannot exceed maxTotal (%d)".formatted(maxPerRoute, maxTotal));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package utils;
+
+import dto.PlayerItemDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically streams /player/get/all and diffs it against a {@link PlayerShadowModel} while load is running.
+ * Each round waits for the writes that were in flight during the snapshot to complete before comparing,
+ * so only players nothing was touching are judged. Divergences are logged with the player's operation history.
+ */
+public final class DifferentialChecker implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DifferentialChecker.class);
+
+    private final PlayerShadowModel model;
+    private final AsyncRestClient client;
+    private final Duration settleTimeout;
+    private final ScheduledExecutorService scheduler;
+    private final List<ShadowDivergence> divergences = new ArrayList<>();
+    private final AtomicInteger rounds = new AtomicInteger();
+    private final AtomicInteger failedRounds = new AtomicInteger();
+
+    /**
+     * @param settleTimeout how long a round waits for writes in flight during its snapshot
+     */
+    public DifferentialChecker(PlayerShadowModel model, AsyncRestClient client, Duration settleTimeout) {
+        this.model = model;
+        this.client = client;
+        this.settleTimeout = settleTimeout;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "differential-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs a round every {@code interval} in the background until {@link #close()}.
+     */
+    public DifferentialChecker start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::checkQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Runs one round on the calling thread, e.g. a final one after the load has stopped.
+     */
+    public ShadowCheckResult check() throws InterruptedException {
+        Map<Long, PlayerItemDto> snapshot = new HashMap<>();
+        long snapshotStart = System.nanoTime();
+        client.streamAllPlayers(player -> {
+            if (player.id() != null) {
+                snapshot.put(player.id(), player);
+            }
+        }).join();
+        long snapshotEnd = System.nanoTime();
+
+        if (!model.awaitCompletion(snapshotEnd, settleTimeout)) {
+            logger.warn("Writes started during the get/all snapshot did not complete within {}, their players are skipped", settleTimeout);
+        }
+        ShadowCheckResult result = model.compare(snapshot, snapshotStart);
+        rounds.incrementAndGet();
+        synchronized (divergences) {
+            divergences.addAll(result.divergences());
+        }
+        for (ShadowDivergence divergence : result.divergences()) {
+            logger.error("Shadow model divergence {}", divergence.format());
+        }
+        logger.info("Differential check {}: {}", rounds.get(), result.summary());
+        return result;
+    }
+
+    public List<ShadowDivergence> getDivergences() {
+        synchronized (divergences) {
+            return List.copyOf(divergences);
+        }
+    }
+
+    public String summary() {
+        return "%d differential check(s), %d failed to run, %d divergence(s), %d player(s) tracked"
+                .formatted(rounds.get(), failedRounds.get(), getDivergences().size(), model.size());
+    }
+
+    /**
+     * Stops background rounds; a round in progress is allowed to finish unless the calling thread is interrupted,
+     * in which case the round is cancelled and the interrupt flag is kept.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(settleTimeout.toMillis() + 60_000, TimeUnit.MILLISECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // a failed round must not cancel the schedule
+            failedRounds.incrementAndGet();
+            logger.warn("Differential check failed: {}", e.getMessage());
+        }
+    }
+}
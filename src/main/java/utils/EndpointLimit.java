@@ -0,0 +1,31 @@
+package utils;
+
+/**
+ * Client-side limits for one endpoint, enforced by {@link RequestThrottle}.
+ * @param permitsPerSecond sustained request rate; 0 means no rate limit
+ * @param burst number of requests that may be sent back to back before the rate applies
+ * @param maxInFlight maximum number of concurrent requests; 0 means no limit
+ */
+public record EndpointLimit(
+        double permitsPerSecond,
+        int burst,
+        int maxInFlight
+) {
+
+    public static final EndpointLimit UNLIMITED = new EndpointLimit(0, 1, 0);
+
+    public EndpointLimit {
+        if (permitsPerSecond < 0 || burst <= 0 || maxInFlight < 0) {
+            throw new IllegalArgumentException("Invalid endpoint limit: permitsPerSecond=%s, burst=%d, maxInFlight=%d"
+                    .formatted(permitsPerSecond, burst, maxInFlight));
+        }
+    }
+
+    public boolean isRateLimited() {
+        return permitsPerSecond > 0;
+    }
+
+    public boolean isConcurrencyLimited() {
+        return maxInFlight > 0;
+    }
+}
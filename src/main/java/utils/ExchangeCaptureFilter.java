@@ -0,0 +1,53 @@
+package utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures every exchange into the calling thread's {@link RecentExchanges} buffer and formats failed ones
+ * (status 400+ or an exception) into a {@link RequestFailureLog}. Successful requests are stored, never formatted.
+ */
+class ExchangeCaptureFilter implements Filter {
+
+    private final RecentExchanges recentExchanges;
+    private final RequestFailureLog failureLog;
+
+    ExchangeCaptureFilter(RecentExchanges recentExchanges, RequestFailureLog failureLog) {
+        this.recentExchanges = recentExchanges;
+        this.failureLog = failureLog;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long startedAtMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            // RestAssured rethrows connection failures as undeclared IOExceptions; the precise rethrow keeps the signature
+            record(RecordedExchange.failed(startedAtMillis, requestSpec.getMethod(), requestSpec.getURI(),
+                    elapsedMicros(start), requestSpec.getBody(), e));
+            throw e;
+        }
+        record(RecordedExchange.of(startedAtMillis, requestSpec.getMethod(), requestSpec.getURI(),
+                response.getStatusCode(), elapsedMicros(start), requestSpec.getBody(), response.asByteArray()));
+        return response;
+    }
+
+    private void record(RecordedExchange exchange) {
+        recentExchanges.record(exchange);
+        if (exchange.isFailure()) {
+            failureLog.add(exchange.format());
+        }
+    }
+
+    private static long elapsedMicros(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,39 @@
+package utils;
+
+import dto.PlayerUpdateRequestDto;
+
+/**
+ * One get or update in a history checked by {@link LinearizabilityChecker}: invoked at {@code invokeNanos},
+ * completed at {@code completeNanos}, and assumed to take effect atomically somewhere in between.
+ * @param id operation id from {@link PlayerOperation#id()}
+ * @param update request body, null for a get
+ * @param observed state returned by the call ({@link PlayerState#ABSENT} for a 404), null if the outcome is unknown
+ * @param completeNanos {@link Long#MAX_VALUE} if the outcome is unknown, as the operation may take effect at any later point or never
+ */
+public record HistoryOperation(
+        long id,
+        long playerId,
+        PlayerUpdateRequestDto update,
+        PlayerState observed,
+        long invokeNanos,
+        long completeNanos
+) {
+
+    public boolean isUpdate() {
+        return update != null;
+    }
+
+    public boolean isIndeterminate() {
+        return observed == null;
+    }
+
+    /**
+     * @param originNanos time printed as 0, e.g. the start of the run
+     */
+    public String format(long originNanos) {
+        String end = isIndeterminate() ? "?" : "%.3f".formatted((completeNanos - originNanos) / 1e6);
+        String call = isUpdate() ? "update " + update : "get";
+        return "#%d [%.3f, %s] ms %s -> %s".formatted(id, (invokeNanos - originNanos) / 1e6, end, call,
+                isIndeterminate() ? "unknown" : observed);
+    }
+}
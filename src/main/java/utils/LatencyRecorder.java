@@ -0,0 +1,135 @@
+package utils;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-endpoint latency histograms of {@link RestClient} calls.
+ * Recording is wait-free ({@link Recorder}), reads drain the recorded intervals into accumulated histograms.
+ * <p>
+ * With a non-zero expected interval, values are recorded with coordinated omission correction:
+ * a request that took N intervals also back-fills the requests that could not be sent while it was running.
+ */
+public final class LatencyRecorder {
+
+    private static final LatencyRecorder GLOBAL = new LatencyRecorder();
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_IN_MILLI = 1000.0;
+
+    private final Map<ApiEndpoint, Recorder> recorders = new EnumMap<>(ApiEndpoint.class);
+    private final Map<ApiEndpoint, Histogram> accumulated = new EnumMap<>(ApiEndpoint.class);
+    private final long startTimeMillis = System.currentTimeMillis();
+    private volatile long expectedIntervalMicros;
+
+    public LatencyRecorder() {
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            recorders.put(endpoint, new Recorder(SIGNIFICANT_DIGITS));
+            Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+            histogram.setTag(endpoint.name());
+            accumulated.put(endpoint, histogram);
+        }
+    }
+
+    /**
+     * Recorder shared by all {@link RestClient} instances in the JVM.
+     */
+    public static LatencyRecorder global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Expected time between two requests of one caller, used for coordinated omission correction. Zero disables it.
+     */
+    public void setExpectedInterval(Duration expectedInterval) {
+        this.expectedIntervalMicros = expectedInterval.toNanos() / 1000;
+    }
+
+    public void record(ApiEndpoint endpoint, long latencyNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        long interval = expectedIntervalMicros;
+        if (interval > 0) {
+            recorders.get(endpoint).recordValueWithExpectedInterval(micros, interval);
+        } else {
+            recorders.get(endpoint).recordValue(micros);
+        }
+    }
+
+    /**
+     * Returns a copy of everything recorded so far for the endpoint, values are in microseconds.
+     */
+    public synchronized Histogram getHistogram(ApiEndpoint endpoint) {
+        drain();
+        return accumulated.get(endpoint).copy();
+    }
+
+    /**
+     * Writes the accumulated histograms into an HdrHistogram log (one tagged interval per endpoint).
+     */
+    public synchronized void writeLog(Path file) {
+        drain();
+        try {
+            file.toAbsolutePath().getParent().toFile().mkdirs();
+            var writer = new HistogramLogWriter(file.toFile());
+            writer.outputComment("Player API latencies, microseconds");
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startTimeMillis);
+            writer.setBaseTime(startTimeMillis);
+            writer.outputLegend();
+            for (Histogram histogram : accumulated.values()) {
+                if (histogram.getTotalCount() > 0) {
+                    writer.outputIntervalHistogram(
+                            (histogram.getStartTimeStamp() - startTimeMillis) / 1000.0,
+                            (histogram.getEndTimeStamp() - startTimeMillis) / 1000.0,
+                            histogram,
+                            MICROS_IN_MILLI);
+                }
+            }
+            writer.close();
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException("Cannot write latency log to " + file, e);
+        }
+    }
+
+    /**
+     * One line per endpoint with request count and latency percentiles in milliseconds.
+     */
+    public synchronized String summary() {
+        drain();
+        var summary = new StringJoiner(System.lineSeparator());
+        summary.add("%-8s %8s %9s %9s %9s %9s %9s".formatted("endpoint", "count", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms"));
+        accumulated.forEach((endpoint, histogram) -> {
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            summary.add("%-8s %8d %9.2f %9.2f %9.2f %9.2f %9.2f".formatted(
+                    endpoint,
+                    histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50.0) / MICROS_IN_MILLI,
+                    histogram.getValueAtPercentile(95.0) / MICROS_IN_MILLI,
+                    histogram.getValueAtPercentile(99.0) / MICROS_IN_MILLI,
+                    histogram.getValueAtPercentile(99.9) / MICROS_IN_MILLI,
+                    histogram.getMaxValue() / MICROS_IN_MILLI));
+        });
+        return summary.toString();
+    }
+
+    private void drain() {
+        long now = System.currentTimeMillis();
+        recorders.forEach((endpoint, recorder) -> {
+            Histogram total = accumulated.get(endpoint);
+            total.add(recorder.getIntervalHistogram());
+            total.setStartTimeStamp(startTimeMillis);
+            total.setEndTimeStamp(now);
+        });
+    }
+}
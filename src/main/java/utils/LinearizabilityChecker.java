@@ -0,0 +1,207 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Offline linearizability check of get/update histories recorded by {@link OperationHistory}.
+ * <p>
+ * Each player is a register of {@link PlayerState}: an update applies its fields and must return the resulting state,
+ * a get must return the current state. Linearizability is compositional, so every player is checked on its own.
+ * The search is Wing &amp; Gong's backtracking over the invoke/complete events, with Lowe's memoization:
+ * a (linearized set, state) pair already explored is never explored again, which keeps histories with many
+ * concurrent reads of the same value cheap. Indeterminate operations complete at infinity, so they may take effect
+ * at any point after their invocation, or (linearized last) never; indeterminate gets constrain nothing and are dropped.
+ */
+public final class LinearizabilityChecker {
+
+    private LinearizabilityChecker() {
+    }
+
+    /**
+     * Checks every player in {@code initialStates}; operations on other players are ignored.
+     * @param initialStates state of each player before the first recorded operation
+     * @param maxSteps search budget per player, after which the player is reported {@link LinearizabilityResult.Outcome#UNKNOWN}
+     */
+    public static List<LinearizabilityResult> check(Map<Long, PlayerState> initialStates, List<HistoryOperation> history, long maxSteps) {
+        Map<Long, List<HistoryOperation>> byPlayer = history.stream()
+                .filter(operation -> initialStates.containsKey(operation.playerId()))
+                .collect(Collectors.groupingBy(HistoryOperation::playerId));
+        return initialStates.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(player -> check(player.getKey(), player.getValue(), byPlayer.getOrDefault(player.getKey(), List.of()), maxSteps))
+                .toList();
+    }
+
+    /**
+     * Checks the history of one player.
+     */
+    public static LinearizabilityResult check(long playerId, PlayerState initialState, List<HistoryOperation> history, long maxSteps) {
+        List<HistoryOperation> operations = history.stream()
+                .filter(operation -> operation.isUpdate() || !operation.isIndeterminate())
+                .toList();
+        return new Search(playerId, initialState, operations, maxSteps).run();
+    }
+
+    /**
+     * State after linearizing {@code operation} in {@code state}, or null if its observed result rules that out.
+     */
+    private static PlayerState step(PlayerState state, HistoryOperation operation) {
+        PlayerState next = operation.isUpdate() ? state.apply(operation.update()) : state;
+        if (operation.isIndeterminate() || operation.observed().equals(next)) {
+            return next;
+        }
+        return null;
+    }
+
+    /**
+     * Invoke or complete event in a doubly linked list ordered by time; linearized operations are unlinked.
+     */
+    private static final class Event {
+        final HistoryOperation operation;
+        final int index;
+        final boolean invoke;
+        Event match;
+        Event previous;
+        Event next;
+
+        Event(HistoryOperation operation, int index, boolean invoke) {
+            this.operation = operation;
+            this.index = index;
+            this.invoke = invoke;
+        }
+    }
+
+    private record Frame(Event invoke, PlayerState state) {
+    }
+
+    private record Explored(BitSet linearized, PlayerState state) {
+    }
+
+    private static final class Search {
+        private final long playerId;
+        private final List<HistoryOperation> operations;
+        private final long maxSteps;
+        private final Event head = new Event(null, -1, false);
+        private PlayerState state;
+
+        private List<HistoryOperation> longestPrefix = List.of();
+        private HistoryOperation blockedBy;
+
+        Search(long playerId, PlayerState initialState, List<HistoryOperation> operations, long maxSteps) {
+            this.playerId = playerId;
+            this.operations = operations;
+            this.maxSteps = maxSteps;
+            this.state = initialState;
+            link();
+        }
+
+        LinearizabilityResult run() {
+            BitSet linearized = new BitSet(operations.size());
+            Set<Explored> explored = new HashSet<>();
+            List<Frame> stack = new ArrayList<>();
+            Event entry = head.next;
+            long steps = 0;
+
+            while (head.next != null) {
+                if (++steps > maxSteps) {
+                    return result(LinearizabilityResult.Outcome.UNKNOWN, steps - 1);
+                }
+                if (entry.invoke) {
+                    PlayerState next = step(state, entry.operation);
+                    if (next != null) {
+                        BitSet candidate = (BitSet) linearized.clone();
+                        candidate.set(entry.index);
+                        if (explored.add(new Explored(candidate, next))) {
+                            stack.add(new Frame(entry, state));
+                            state = next;
+                            linearized.set(entry.index);
+                            unlink(entry);
+                            entry = head.next;
+                            continue;
+                        }
+                    }
+                    entry = entry.next;
+                } else {
+                    // an operation completed before being linearized: undo the latest choice
+                    if (blockedBy == null || stack.size() > longestPrefix.size()) {
+                        longestPrefix = stack.stream().map(frame -> frame.invoke().operation).toList();
+                        blockedBy = entry.operation;
+                    }
+                    if (stack.isEmpty()) {
+                        return result(LinearizabilityResult.Outcome.NOT_LINEARIZABLE, steps);
+                    }
+                    Frame frame = stack.remove(stack.size() - 1);
+                    state = frame.state();
+                    linearized.clear(frame.invoke().index);
+                    relink(frame.invoke());
+                    entry = frame.invoke().next;
+                }
+            }
+            return result(LinearizabilityResult.Outcome.LINEARIZABLE, steps);
+        }
+
+        private LinearizabilityResult result(LinearizabilityResult.Outcome outcome, long steps) {
+            boolean violation = outcome == LinearizabilityResult.Outcome.NOT_LINEARIZABLE;
+            return new LinearizabilityResult(playerId, outcome, operations.size(), steps,
+                    violation ? longestPrefix : List.of(), violation ? blockedBy : null);
+        }
+
+        /**
+         * Builds the event list; on equal timestamps invocations go first, so touching operations count as concurrent.
+         */
+        private void link() {
+            List<Event> events = new ArrayList<>(operations.size() * 2);
+            for (int i = 0; i < operations.size(); i++) {
+                HistoryOperation operation = operations.get(i);
+                Event invoke = new Event(operation, i, true);
+                Event complete = new Event(operation, i, false);
+                invoke.match = complete;
+                complete.match = invoke;
+                events.add(invoke);
+                events.add(complete);
+            }
+            events.sort(Comparator.comparingLong((Event event) -> event.invoke ? event.operation.invokeNanos() : event.operation.completeNanos())
+                    .thenComparing(event -> !event.invoke));
+            Event last = head;
+            for (Event event : events) {
+                last.next = event;
+                event.previous = last;
+                last = event;
+            }
+        }
+
+        /**
+         * Removes a linearized operation's invoke and complete events.
+         */
+        private static void unlink(Event invoke) {
+            remove(invoke);
+            remove(invoke.match);
+        }
+
+        private static void relink(Event invoke) {
+            restore(invoke.match);
+            restore(invoke);
+        }
+
+        private static void remove(Event event) {
+            event.previous.next = event.next;
+            if (event.next != null) {
+                event.next.previous = event.previous;
+            }
+        }
+
+        private static void restore(Event event) {
+            event.previous.next = event;
+            if (event.next != null) {
+                event.next.previous = event;
+            }
+        }
+    }
+}
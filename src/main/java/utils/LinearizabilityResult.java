@@ -0,0 +1,46 @@
+package utils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of {@link LinearizabilityChecker} for the history of one player.
+ * @param steps search steps taken, including backtracking
+ * @param longestPrefix for a violation, the longest sequence of operations found that respects both real-time order
+ *                      and the player semantics, in linearization order; empty otherwise
+ * @param blockedBy for a violation, the operation that had to be linearized next but fit no state reachable from that prefix
+ */
+public record LinearizabilityResult(
+        long playerId,
+        Outcome outcome,
+        int operations,
+        long steps,
+        List<HistoryOperation> longestPrefix,
+        HistoryOperation blockedBy
+) {
+
+    private static final int PREFIX_LINES = 10;
+
+    public enum Outcome {
+        LINEARIZABLE,
+        NOT_LINEARIZABLE,
+        /** The step budget ran out before the search finished. */
+        UNKNOWN
+    }
+
+    /**
+     * @param originNanos time printed as 0, e.g. the start of the run
+     */
+    public String format(long originNanos) {
+        String summary = "player %d: %s (%d operations, %d steps)".formatted(playerId, outcome, operations, steps);
+        if (outcome != Outcome.NOT_LINEARIZABLE) {
+            return summary;
+        }
+        String prefix = longestPrefix.subList(Math.max(0, longestPrefix.size() - PREFIX_LINES), longestPrefix.size()).stream()
+                .map(operation -> "    " + operation.format(originNanos))
+                .collect(Collectors.joining(System.lineSeparator()));
+        return "%s%n  longest linearizable prefix (%d operations, last %d shown):%n%s%n  no valid placement for:%n    %s".formatted(
+                summary, longestPrefix.size(), Math.min(PREFIX_LINES, longestPrefix.size()),
+                prefix.isEmpty() ? "    (none)" : prefix, blockedBy == null ? "(unknown)" : blockedBy.format(originNanos));
+    }
+}
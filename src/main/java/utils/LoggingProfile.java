@@ -0,0 +1,26 @@
+package utils;
+
+/**
+ * How much of each request {@link RestClient} logs to the console and Allure.
+ * Formatting full requests and responses dominates client CPU in large or load runs, so only {@link #FULL} logs everything.
+ */
+public enum LoggingProfile {
+    /**
+     * Every request and response is logged to the console and attached to Allure.
+     * Exchanges are also captured as in {@link #FAILURES_ONLY}.
+     */
+    FULL,
+    /**
+     * Nothing is logged for successful requests; failed ones (status 400+ or an exception) go to {@link RequestFailureLog}.
+     * Each thread's last exchanges are kept in {@link RecentExchanges} for dumping when a test fails.
+     */
+    FAILURES_ONLY,
+    /**
+     * Every N-th request is logged in full, the rest are handled as in {@link #FAILURES_ONLY}.
+     */
+    SAMPLED,
+    /**
+     * No request logging or capture at all; latencies are still recorded.
+     */
+    OFF
+}
@@ -0,0 +1,81 @@
+package utils;
+
+import dto.PlayerGetByPlayerIdResponseDto;
+import dto.PlayerUpdateRequestDto;
+import dto.PlayerUpdateResponseDto;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.HttpURLConnection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the gets and updates of a {@link RestClient} it listens to as a timestamped history
+ * for {@link LinearizabilityChecker}. Every call is one invoke/complete pair taken from {@link PlayerOperation}.
+ * <p>
+ * Calls rejected with a 4xx other than 404 had no effect on the player and are not recorded;
+ * calls without a response or with a 5xx are recorded as indeterminate.
+ */
+public final class OperationHistory implements PlayerOperationListener {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Queue<HistoryOperation> operations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger rejected = new AtomicInteger();
+
+    @Override
+    public void onComplete(PlayerOperation operation) {
+        boolean update = operation.endpoint() == ApiEndpoint.UPDATE;
+        Long playerId = operation.numericPlayerId();
+        if (playerId == null || (!update && operation.endpoint() != ApiEndpoint.GET)) {
+            return;
+        }
+        if (update && !(operation.request() instanceof PlayerUpdateRequestDto)) {
+            return;
+        }
+        PlayerUpdateRequestDto request = update ? (PlayerUpdateRequestDto) operation.request() : null;
+
+        PlayerState observed;
+        if (operation.isIndeterminate()) {
+            observed = null;
+        } else if (operation.status() == HttpURLConnection.HTTP_NOT_FOUND) {
+            observed = PlayerState.ABSENT;
+        } else if (operation.isSuccess()) {
+            observed = observed(operation, update);
+        } else {
+            rejected.incrementAndGet();
+            return;
+        }
+        long completeNanos = observed == null ? Long.MAX_VALUE : operation.endNanos();
+        operations.add(new HistoryOperation(operation.id(), playerId, request, observed, operation.startNanos(), completeNanos));
+    }
+
+    /**
+     * Recorded operations ordered by invocation time.
+     */
+    public List<HistoryOperation> operations() {
+        return operations.stream().sorted(Comparator.comparingLong(HistoryOperation::invokeNanos)).toList();
+    }
+
+    /**
+     * Gets and updates rejected with a 4xx other than 404, left out of the history.
+     */
+    public int rejectedCount() {
+        return rejected.get();
+    }
+
+    private PlayerState observed(PlayerOperation operation, boolean update) {
+        try {
+            byte[] body = operation.response().asByteArray();
+            return update
+                    ? PlayerState.of(mapper.readValue(body, PlayerUpdateResponseDto.class))
+                    : PlayerState.of(mapper.readValue(body, PlayerGetByPlayerIdResponseDto.class));
+        } catch (JacksonException e) {
+            // a 2xx with an unreadable body says nothing about the state, so the outcome is unknown
+            return null;
+        }
+    }
+}
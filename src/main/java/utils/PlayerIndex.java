@@ -0,0 +1,49 @@
+package utils;
+
+import dto.PlayerGetAllResponseDto;
+import dto.PlayerItemDto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only view over a /player/get/all response with O(1) lookups by id.
+ * Built once per response; rows without an id are kept in {@link #players()} but cannot be looked up.
+ */
+public final class PlayerIndex {
+
+    private final List<PlayerItemDto> players;
+    private final LongIntHashMap rowsById;
+
+    private PlayerIndex(List<PlayerItemDto> players) {
+        this.players = players;
+        this.rowsById = new LongIntHashMap(players.size());
+        for (int row = 0; row < players.size(); row++) {
+            PlayerItemDto player = players.get(row);
+            if (player.id() != null && player.id() != Long.MIN_VALUE) {
+                rowsById.put(player.id(), row);
+            }
+        }
+    }
+
+    public static PlayerIndex of(PlayerGetAllResponseDto response) {
+        return new PlayerIndex(response.players() == null ? List.of() : List.copyOf(response.players()));
+    }
+
+    public Optional<PlayerItemDto> findById(long id) {
+        int row = id == Long.MIN_VALUE ? LongIntHashMap.NO_VALUE : rowsById.get(id);
+        return row == LongIntHashMap.NO_VALUE ? Optional.empty() : Optional.of(players.get(row));
+    }
+
+    public boolean containsId(long id) {
+        return id != Long.MIN_VALUE && rowsById.containsKey(id);
+    }
+
+    public List<PlayerItemDto> players() {
+        return players;
+    }
+
+    public int size() {
+        return players.size();
+    }
+}
@@ -0,0 +1,56 @@
+package utils;
+
+import io.restassured.response.Response;
+
+/**
+ * One completed {@link RestClient} call as seen by a {@link PlayerOperationListener}, retries included.
+ * @param id client-side sequence number, the same as passed to {@link PlayerOperationListener#onStart}
+ * @param editor login in the path, null for get and get/all
+ * @param playerId id the call targets as passed by the caller (may be non-numeric in negative tests), null for create and get/all
+ * @param request request body or create details as passed by the caller, null if there is none
+ * @param response final response, null if the call ended with {@code error}
+ * @param startNanos {@link System#nanoTime()} before the first attempt
+ * @param endNanos {@link System#nanoTime()} after the final attempt
+ */
+public record PlayerOperation(
+        long id,
+        ApiEndpoint endpoint,
+        String editor,
+        Object playerId,
+        Object request,
+        Response response,
+        Throwable error,
+        long startNanos,
+        long endNanos
+) {
+
+    /**
+     * Response status, -1 if the call ended with an error.
+     */
+    public int status() {
+        return response == null ? -1 : response.getStatusCode();
+    }
+
+    /**
+     * Whether the server answered with a 2xx status.
+     */
+    public boolean isSuccess() {
+        int status = status();
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * Whether the effect on the server is unknown: no response or a 5xx, after which the request may or may not have been applied.
+     */
+    public boolean isIndeterminate() {
+        int status = status();
+        return status < 0 || status >= 500;
+    }
+
+    /**
+     * Numeric target id, or null if the call has none or it is not a number.
+     */
+    public Long numericPlayerId() {
+        return playerId instanceof Number number ? number.longValue() : null;
+    }
+}
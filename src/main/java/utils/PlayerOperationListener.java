@@ -0,0 +1,40 @@
+package utils;
+
+/**
+ * Observer of every player API call made through a {@link RestClient}, e.g. a shadow model or a history recorder.
+ * Called on the calling thread, so implementations must be thread-safe and fast.
+ */
+public interface PlayerOperationListener {
+
+    PlayerOperationListener NONE = operation -> {
+    };
+
+    /**
+     * Called before the first attempt is sent.
+     * @param playerId target id as passed by the caller, null for create and get/all
+     */
+    default void onStart(long operationId, ApiEndpoint endpoint, Object playerId) {
+    }
+
+    /**
+     * Called once after the final attempt, with its response or the error that ended the call.
+     */
+    void onComplete(PlayerOperation operation);
+
+    default PlayerOperationListener andThen(PlayerOperationListener next) {
+        PlayerOperationListener first = this;
+        return new PlayerOperationListener() {
+            @Override
+            public void onStart(long operationId, ApiEndpoint endpoint, Object playerId) {
+                first.onStart(operationId, endpoint, playerId);
+                next.onStart(operationId, endpoint, playerId);
+            }
+
+            @Override
+            public void onComplete(PlayerOperation operation) {
+                first.onComplete(operation);
+                next.onComplete(operation);
+            }
+        };
+    }
+}
@@ -0,0 +1,339 @@
+package utils;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Validator for player JSON objects that runs over the Jackson token stream instead of bound DTOs.
+ * Rules are compiled once by {@link Builder#build()} into a name lookup of field checks and a bit mask of required
+ * fields; validating an object reads each value in place (integers as primitives, strings as the parser's character
+ * buffer), so valid players allocate nothing and a get/all body of any size is validated in constant memory.
+ * <p>
+ * Every declared field is required and must not be null; fields that are not declared are skipped.
+ */
+public final class PlayerSchema {
+
+    private static final String ID_FIELD = "id";
+    private static final int MAX_FIELDS = Long.SIZE;
+
+    private final ObjectMapper mapper;
+    private final Map<String, Field> fields;
+    private final Field[] fieldsBySlot;
+    private final long requiredMask;
+    // bit of the field that labels violation messages, 0 if the schema has no id
+    private final long idBit;
+
+    private PlayerSchema(ObjectMapper mapper, List<Field> fields) {
+        this.mapper = mapper;
+        this.fields = new HashMap<>();
+        this.fieldsBySlot = fields.toArray(Field[]::new);
+        long mask = 0;
+        long id = 0;
+        for (Field field : fields) {
+            this.fields.put(field.name, field);
+            mask |= field.bit;
+            if (field.name.equals(ID_FIELD)) {
+                id = field.bit;
+            }
+        }
+        this.requiredMask = mask;
+        this.idBit = id;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validates a body holding one player object, e.g. a create, get or update response.
+     * @param maxReported maximum number of violation messages kept (the counts are always exact)
+     */
+    public SchemaReport validatePlayer(byte[] body, int maxReported) {
+        try (JsonParser parser = mapper.createParser(body)) {
+            var report = new Report(maxReported);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                report.fail("body should be a JSON object, got " + parser.currentToken());
+                return report.build();
+            }
+            validateObject(parser, report);
+            return report.build();
+        }
+    }
+
+    /**
+     * Validates every item of a /player/get/all body ({@code {"players": [...]}}) as it is read. The stream is closed at the end.
+     * @param maxReported maximum number of violation messages kept (the counts are always exact)
+     */
+    public SchemaReport validatePlayers(InputStream body, int maxReported) {
+        try (JsonParser parser = mapper.createParser(body)) {
+            var report = new Report(maxReported);
+            if (!PlayerStreamParser.moveToPlayers(parser)) {
+                report.fail("body should have a players array");
+                return report.build();
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    validateObject(parser, report);
+                } else {
+                    report.fail("players item %d should be an object, got %s".formatted(report.objects, token));
+                    report.objects++;
+                    parser.skipChildren();
+                }
+            }
+            return report.build();
+        }
+    }
+
+    /**
+     * Validates the object whose START_OBJECT the parser is on and leaves the parser on its END_OBJECT.
+     */
+    private void validateObject(JsonParser parser, Report report) {
+        long seen = 0;
+        long invalid = 0;
+        long id = 0;
+        boolean hasId = false;
+        // values are formatted only while messages are still being kept
+        List<String> problems = null;
+
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            Field field = fields.get(parser.currentName());
+            JsonToken token = parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+                continue;
+            }
+            seen |= field.bit;
+            if (field.bit == idBit && token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                id = parser.getLongValue();
+                hasId = true;
+            }
+            if (!field.accepts(parser, token)) {
+                invalid |= field.bit;
+                if (report.keepsMessages()) {
+                    if (problems == null) {
+                        problems = new ArrayList<>();
+                    }
+                    problems.add("%s, got %s".formatted(field.rule, describe(parser, token)));
+                }
+            }
+            parser.skipChildren();
+        }
+
+        long missing = requiredMask & ~seen;
+        if (invalid != 0 || missing != 0) {
+            if (report.keepsMessages()) {
+                if (problems == null) {
+                    problems = new ArrayList<>();
+                }
+                for (Field field : fieldsBySlot) {
+                    if ((missing & field.bit) != 0) {
+                        problems.add(field.rule + ", but it is missing");
+                    }
+                }
+            }
+            report.invalidObject(hasId ? Long.toString(id) : null, problems);
+        }
+        report.objects++;
+    }
+
+    private static String describe(JsonParser parser, JsonToken token) {
+        if (token == JsonToken.VALUE_STRING) {
+            return '"' + parser.getString() + '"';
+        }
+        return token.isScalarValue() ? parser.getString() : token.toString();
+    }
+
+    /**
+     * Schema rules, compiled by {@link #build()}.
+     */
+    public static final class Builder {
+        private final List<Field> fields = new ArrayList<>();
+        private ObjectMapper mapper;
+
+        private Builder() {
+        }
+
+        /**
+         * Mapper whose parser factory is used, e.g. to share settings with the client; a default one otherwise.
+         */
+        public Builder mapper(ObjectMapper mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        /**
+         * JSON integer within [min, max].
+         */
+        public Builder integer(String name, long min, long max) {
+            return add(new Field(name, 1L << fields.size(), Kind.INTEGER, min, max, null, false,
+                    "%s should be an integer %s".formatted(name, bounds(min, max, Long.MAX_VALUE))));
+        }
+
+        /**
+         * JSON string equal to one of the constant names, case-insensitively (the rule of the DTOs' get*AsEnum()).
+         */
+        public Builder oneOf(String name, Class<? extends Enum<?>> type) {
+            Enum<?>[] constants = type.getEnumConstants();
+            char[][] allowed = new char[constants.length][];
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < constants.length; i++) {
+                allowed[i] = constants[i].name().toLowerCase(Locale.ROOT).toCharArray();
+                names.add(constants[i].name());
+            }
+            return add(new Field(name, 1L << fields.size(), Kind.ENUM, 0, 0, allowed, false,
+                    "%s should be one of %s".formatted(name, names)));
+        }
+
+        /**
+         * JSON string of [minLength, maxLength] characters.
+         */
+        public Builder string(String name, int minLength, int maxLength) {
+            return add(new Field(name, 1L << fields.size(), Kind.STRING, minLength, maxLength, null, false,
+                    "%s should be a string with length %s".formatted(name, bounds(minLength, maxLength, Integer.MAX_VALUE))));
+        }
+
+        /**
+         * JSON string of [minLength, maxLength] characters containing at least one digit.
+         */
+        public Builder password(String name, int minLength, int maxLength) {
+            return add(new Field(name, 1L << fields.size(), Kind.STRING, minLength, maxLength, null, true,
+                    "%s should be a string with length %s and a digit".formatted(name, bounds(minLength, maxLength, Integer.MAX_VALUE))));
+        }
+
+        public PlayerSchema build() {
+            return new PlayerSchema(mapper == null ? new ObjectMapper() : mapper, List.copyOf(fields));
+        }
+
+        private static String bounds(long min, long max, long unbounded) {
+            return max == unbounded ? ">= " + min : "in [%d, %d]".formatted(min, max);
+        }
+
+        private Builder add(Field field) {
+            if (fields.size() == MAX_FIELDS) {
+                throw new IllegalStateException("A schema supports at most %d fields".formatted(MAX_FIELDS));
+            }
+            if (fields.stream().anyMatch(existing -> existing.name.equals(field.name))) {
+                throw new IllegalArgumentException("Field '%s' is declared twice".formatted(field.name));
+            }
+            fields.add(field);
+            return this;
+        }
+    }
+
+    private enum Kind {
+        INTEGER,
+        ENUM,
+        STRING
+    }
+
+    /**
+     * One compiled field check.
+     * @param bit the field's bit in the seen / required masks
+     * @param min minimum value for integers, minimum length for strings
+     * @param max maximum value for integers, maximum length for strings
+     * @param allowed lower-case constant names for enums
+     */
+    private record Field(String name, long bit, Kind kind, long min, long max, char[][] allowed, boolean requiresDigit, String rule) {
+
+        boolean accepts(JsonParser parser, JsonToken token) {
+            return switch (kind) {
+                case INTEGER -> token == JsonToken.VALUE_NUMBER_INT
+                        && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER
+                        && parser.getLongValue() >= min && parser.getLongValue() <= max;
+                case ENUM -> token == JsonToken.VALUE_STRING && matchesConstant(parser);
+                case STRING -> token == JsonToken.VALUE_STRING && acceptsString(parser);
+            };
+        }
+
+        private boolean matchesConstant(JsonParser parser) {
+            char[] text = parser.getStringCharacters();
+            int offset = parser.getStringOffset();
+            int length = parser.getStringLength();
+            for (char[] constant : allowed) {
+                if (constant.length == length && equalsIgnoreCase(constant, text, offset)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean acceptsString(JsonParser parser) {
+            int length = parser.getStringLength();
+            if (length < min || length > max) {
+                return false;
+            }
+            if (!requiresDigit) {
+                return true;
+            }
+            char[] text = parser.getStringCharacters();
+            int offset = parser.getStringOffset();
+            for (int i = offset; i < offset + length; i++) {
+                if (text[i] >= '0' && text[i] <= '9') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean equalsIgnoreCase(char[] lowerCase, char[] text, int offset) {
+            for (int i = 0; i < lowerCase.length; i++) {
+                if (Character.toLowerCase(text[offset + i]) != lowerCase[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Mutable counts and messages of one validation run.
+     */
+    private static final class Report {
+        private final int maxReported;
+        private final List<String> violations = new ArrayList<>();
+        private long objects;
+        private long invalidObjects;
+        private long bodyViolations;
+
+        Report(int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        boolean keepsMessages() {
+            return violations.size() < maxReported;
+        }
+
+        void fail(String message) {
+            bodyViolations++;
+            if (keepsMessages()) {
+                violations.add(message);
+            }
+        }
+
+        void invalidObject(String id, List<String> problems) {
+            invalidObjects++;
+            if (problems == null) {
+                return;
+            }
+            for (String problem : problems) {
+                if (!keepsMessages()) {
+                    return;
+                }
+                violations.add("Player %s (item %d): %s".formatted(id, objects, problem));
+            }
+        }
+
+        SchemaReport build() {
+            return new SchemaReport(objects, invalidObjects + bodyViolations, List.copyOf(violations));
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package utils;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerDetailsDto;
+import dto.PlayerItemDto;
+import dto.PlayerUpdateResponseDto;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Client-side model of the player table, kept up to date by the successful creates, updates and deletes of a
+ * {@link RestClient} it listens to, and compared with get/all snapshots by {@link DifferentialChecker}.
+ * <p>
+ * The model only claims to know a player's state when nothing could have changed it unobserved:
+ * <ul>
+ *     <li>operations on the same player that overlap in time may be applied in either order, and a 5xx or failed call
+ *     may or may not have been applied; such players are marked uncertain and resynced from the next snapshot;</li>
+ *     <li>players with an operation overlapping the snapshot are skipped in that round.</li>
+ * </ul>
+ * Everything else must match exactly, so a mismatch means the server lost or reordered a write.
+ */
+public final class PlayerShadowModel implements PlayerOperationListener {
+
+    private static final int HISTORY_LENGTH = 8;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final long createdAtNanos = System.nanoTime();
+    private final ConcurrentMap<Long, Entry> players = new ConcurrentHashMap<>();
+    // start times of creates, updates and deletes that have not completed yet, by operation id
+    private final ConcurrentMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+    // screenNames of creates with an unknown outcome: a matching unknown player in get/all is adopted, not reported
+    private final Set<String> possiblyCreated = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onStart(long operationId, ApiEndpoint endpoint, Object playerId) {
+        if (!isWrite(endpoint)) {
+            return;
+        }
+        inFlight.put(operationId, System.nanoTime());
+        if (playerId instanceof Number number) {
+            players.computeIfPresent(number.longValue(), (id, entry) -> entry.withInFlight(entry.inFlight + 1));
+        }
+    }
+
+    @Override
+    public void onComplete(PlayerOperation operation) {
+        if (!isWrite(operation.endpoint())) {
+            return;
+        }
+        try {
+            switch (operation.endpoint()) {
+                case CREATE -> created(operation);
+                case UPDATE -> updated(operation);
+                case DELETE -> deleted(operation);
+                default -> {
+                }
+            }
+        } finally {
+            inFlight.remove(operation.id());
+        }
+    }
+
+    /**
+     * Waits until every create, update and delete started before {@code startedBeforeNanos} has completed,
+     * so a snapshot taken until then can be compared with the outcome of all operations it may reflect.
+     * @return false if some are still in flight after the timeout; their players are skipped by {@link #compare}
+     */
+    public boolean awaitCompletion(long startedBeforeNanos, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.values().stream().anyMatch(start -> start - startedBeforeNanos < 0)) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * Compares the model with a get/all snapshot requested at {@code snapshotStartNanos}.
+     * Reported and uncertain players are resynced to the snapshot, so every divergence is reported once;
+     * deleted players confirmed absent are forgotten.
+     * @param snapshot players from get/all by id
+     */
+    public ShadowCheckResult compare(Map<Long, PlayerItemDto> snapshot, long snapshotStartNanos) {
+        List<ShadowDivergence> divergences = new ArrayList<>();
+        Map<String, Long> trackedScreenNames = new HashMap<>();
+        int compared = 0;
+        int skipped = 0;
+
+        for (var tracked : players.entrySet()) {
+            long id = tracked.getKey();
+            Entry entry = tracked.getValue();
+            if (entry.expected != null) {
+                trackedScreenNames.put(entry.expected.screenName(), id);
+            }
+            if (entry.inFlight > 0 || entry.lastEndNanos - snapshotStartNanos >= 0) {
+                skipped++;
+                continue;
+            }
+            PlayerItemDto actual = snapshot.get(id);
+            if (entry.uncertain) {
+                players.replace(id, entry, entry.resyncedTo(actual));
+                skipped++;
+                continue;
+            }
+            compared++;
+            if (entry.expected == null) {
+                if (actual == null) {
+                    players.remove(id, entry);
+                } else {
+                    divergences.add(diverged(ShadowDivergence.Kind.RESURRECTED_PLAYER, id, entry, actual));
+                }
+            } else if (actual == null) {
+                divergences.add(diverged(ShadowDivergence.Kind.LOST_PLAYER, id, entry, null));
+            } else if (!sameState(entry.expected, actual)) {
+                divergences.add(diverged(ShadowDivergence.Kind.LOST_UPDATE, id, entry, actual));
+            }
+        }
+
+        int untracked = 0;
+        for (PlayerItemDto actual : snapshot.values()) {
+            if (actual.id() == null || players.containsKey(actual.id())) {
+                continue;
+            }
+            Long sameScreenName = trackedScreenNames.get(actual.screenName());
+            if (sameScreenName != null) {
+                divergences.add(new ShadowDivergence(ShadowDivergence.Kind.PHANTOM_PLAYER, actual.id(),
+                        null, actual, players.getOrDefault(sameScreenName, Entry.EMPTY).history()));
+                // tracked from now on, so it is reported once
+                players.putIfAbsent(actual.id(), Entry.adopted(actual, snapshotStartNanos));
+            } else if (actual.screenName() != null && possiblyCreated.remove(actual.screenName())) {
+                players.putIfAbsent(actual.id(), Entry.adopted(actual, snapshotStartNanos));
+            } else {
+                untracked++;
+            }
+        }
+        return new ShadowCheckResult(snapshot.size(), compared, skipped, untracked, divergences);
+    }
+
+    /**
+     * Number of players currently tracked, including deleted ones not yet confirmed absent.
+     */
+    public int size() {
+        return players.size();
+    }
+
+    private ShadowDivergence diverged(ShadowDivergence.Kind kind, long id, Entry entry, PlayerItemDto actual) {
+        players.replace(id, entry, entry.resyncedTo(actual));
+        return new ShadowDivergence(kind, id, entry.expected, actual, entry.history());
+    }
+
+    private void created(PlayerOperation operation) {
+        if (operation.isIndeterminate()) {
+            if (operation.request() instanceof PlayerDetailsDto details && details.screenName() != null) {
+                possiblyCreated.add(details.screenName());
+            }
+            return;
+        }
+        if (!operation.isSuccess()) {
+            return;
+        }
+        PlayerCreateResponseDto created = parse(operation, PlayerCreateResponseDto.class);
+        if (created == null || created.id() == null) {
+            return;
+        }
+        var item = new PlayerItemDto(created.age(), created.gender(), created.id(), created.role(), created.screenName());
+        players.merge(created.id(), Entry.EMPTY.applied(item, false, operation, line(operation)),
+                (existing, fresh) -> existing.applied(item, false, operation, line(operation)));
+    }
+
+    private void updated(PlayerOperation operation) {
+        Long id = operation.numericPlayerId();
+        if (id == null) {
+            return;
+        }
+        if (operation.isSuccess()) {
+            PlayerUpdateResponseDto updated = parse(operation, PlayerUpdateResponseDto.class);
+            if (updated == null) {
+                markUncertain(id, operation);
+                return;
+            }
+            var item = new PlayerItemDto(updated.age(), updated.gender(), id, updated.role(), updated.screenName());
+            applyOrTrack(id, item, operation);
+        } else {
+            completedWithoutChange(id, operation);
+        }
+    }
+
+    private void deleted(PlayerOperation operation) {
+        Long id = operation.numericPlayerId();
+        if (id == null) {
+            return;
+        }
+        if (operation.isSuccess()) {
+            applyOrTrack(id, null, operation);
+        } else {
+            completedWithoutChange(id, operation);
+        }
+    }
+
+    /**
+     * Successful update or delete: unknown players (e.g. the default accounts) are tracked from now on.
+     */
+    private void applyOrTrack(long id, PlayerItemDto item, PlayerOperation operation) {
+        String line = line(operation);
+        players.compute(id, (key, entry) -> entry == null
+                ? Entry.EMPTY.applied(item, false, operation, line)
+                : entry.applied(item, true, operation, line));
+    }
+
+    private void completedWithoutChange(long id, PlayerOperation operation) {
+        if (operation.isIndeterminate()) {
+            markUncertain(id, operation);
+            return;
+        }
+        String line = line(operation);
+        players.computeIfPresent(id, (key, entry) -> entry.completed(entry.uncertain, operation, line));
+    }
+
+    private void markUncertain(long id, PlayerOperation operation) {
+        String line = line(operation);
+        players.computeIfPresent(id, (key, entry) -> entry.completed(true, operation, line));
+    }
+
+    private <T> T parse(PlayerOperation operation, Class<T> type) {
+        try {
+            return mapper.readValue(operation.response().asByteArray(), type);
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    private String line(PlayerOperation operation) {
+        return "#%d %s by %s -> %s at +%.1f ms (took %.1f ms) %s".formatted(
+                operation.id(), operation.endpoint(), operation.editor(),
+                operation.error() == null ? operation.status() : operation.error().getClass().getSimpleName(),
+                (operation.startNanos() - createdAtNanos) / 1e6, (operation.endNanos() - operation.startNanos()) / 1e6,
+                Objects.toString(operation.request(), ""));
+    }
+
+    /**
+     * Same rules as the get/all DTO accessors: role and gender are compared case-insensitively.
+     */
+    private static boolean sameState(PlayerItemDto expected, PlayerItemDto actual) {
+        return Objects.equals(expected.age(), actual.age())
+                && Objects.equals(expected.screenName(), actual.screenName())
+                && expected.getRoleAsEnum() == actual.getRoleAsEnum()
+                && expected.getGenderAsEnum() == actual.getGenderAsEnum();
+    }
+
+    private static boolean isWrite(ApiEndpoint endpoint) {
+        return endpoint == ApiEndpoint.CREATE || endpoint == ApiEndpoint.UPDATE || endpoint == ApiEndpoint.DELETE;
+    }
+
+    /**
+     * Immutable state of one player; replaced atomically through the map.
+     * @param expected current state, null once deleted
+     * @param uncertain the state may differ from {@code expected} for reasons the model cannot see
+     * @param inFlight operations on the player started but not completed
+     * @param lastEndNanos completion time of the latest operation on the player
+     */
+    private record Entry(PlayerItemDto expected, boolean uncertain, int inFlight, long lastEndNanos, List<String> history) {
+
+        static final Entry EMPTY = new Entry(null, false, 0, Long.MIN_VALUE, List.of());
+
+        /**
+         * A player first seen in a snapshot, known to be in this state as of {@code seenAtNanos}.
+         */
+        static Entry adopted(PlayerItemDto actual, long seenAtNanos) {
+            return new Entry(actual, false, 0, seenAtNanos, List.of());
+        }
+
+        Entry withInFlight(int count) {
+            return new Entry(expected, uncertain, count, lastEndNanos, history);
+        }
+
+        /**
+         * A successful write; if it overlapped another operation on the player, the final order is unknown.
+         */
+        Entry applied(PlayerItemDto state, boolean tracked, PlayerOperation operation, String line) {
+            boolean overlapped = tracked && (inFlight > 1 || lastEndNanos - operation.startNanos() > 0);
+            return new Entry(state, overlapped, Math.max(0, inFlight - 1), Math.max(lastEndNanos, operation.endNanos()), append(line));
+        }
+
+        Entry completed(boolean nowUncertain, PlayerOperation operation, String line) {
+            return new Entry(expected, nowUncertain, Math.max(0, inFlight - 1), Math.max(lastEndNanos, operation.endNanos()), append(line));
+        }
+
+        Entry resyncedTo(PlayerItemDto actual) {
+            return new Entry(actual, false, inFlight, lastEndNanos, history);
+        }
+
+        private List<String> append(String line) {
+            List<String> appended = new ArrayList<>(Math.min(history.size() + 1, HISTORY_LENGTH));
+            appended.addAll(history.subList(Math.max(0, history.size() + 1 - HISTORY_LENGTH), history.size()));
+            appended.add(line);
+            return List.copyOf(appended);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package utils;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerGetByPlayerIdResponseDto;
+import dto.PlayerUpdateRequestDto;
+import dto.PlayerUpdateResponseDto;
+import entities.Gender;
+import entities.Role;
+
+/**
+ * The mutable fields of one player as a value, the register {@link LinearizabilityChecker} models.
+ * Login and password are left out: updates never return the password, and the checker does not change logins.
+ */
+public record PlayerState(Integer age, Gender gender, Role role, String screenName) {
+
+    /** The player does not exist (get and update answered 404). */
+    public static final PlayerState ABSENT = new PlayerState(null, null, null, null);
+
+    public static PlayerState of(PlayerCreateResponseDto created) {
+        return new PlayerState(created.age(), created.getGenderAsEnum(), created.getRoleAsEnum(), created.screenName());
+    }
+
+    public static PlayerState of(PlayerGetByPlayerIdResponseDto player) {
+        return new PlayerState(player.age(), player.getGenderAsEnum(), player.getRoleAsEnum(), player.screenName());
+    }
+
+    public static PlayerState of(PlayerUpdateResponseDto updated) {
+        return new PlayerState(updated.age(), updated.getGenderAsEnum(), updated.getRoleAsEnum(), updated.screenName());
+    }
+
+    public boolean isAbsent() {
+        return equals(ABSENT);
+    }
+
+    /**
+     * State after a PATCH with {@code update}: fields present in the request replace the current ones.
+     */
+    public PlayerState apply(PlayerUpdateRequestDto update) {
+        if (isAbsent()) {
+            return this;
+        }
+        return new PlayerState(
+                update.age() != null ? update.age() : age,
+                update.gender() != null ? update.gender() : gender,
+                update.role() != null ? update.role() : role,
+                update.screenName() != null ? update.screenName() : screenName);
+    }
+
+    @Override
+    public String toString() {
+        return isAbsent() ? "absent" : "{age=%s, gender=%s, role=%s, screenName=%s}".formatted(age, gender, role, screenName);
+    }
+}
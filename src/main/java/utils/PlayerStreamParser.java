@@ -0,0 +1,106 @@
+package utils;
+
+import dto.PlayerItemDto;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.InputStream;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Incremental parser for /player/get/all bodies ({@code {"players": [...]}}).
+ * Walks the token stream and binds one {@link PlayerItemDto} at a time, so memory use does not depend on the list size.
+ * Other top-level fields are skipped.
+ */
+public class PlayerStreamParser {
+    private static final String PLAYERS_FIELD = "players";
+
+    private final ObjectMapper mapper;
+    // items are bound in the middle of the body, so tokens after each item are expected
+    private final ObjectReader itemReader;
+
+    public PlayerStreamParser() {
+        this(new ObjectMapper());
+    }
+
+    public PlayerStreamParser(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.itemReader = mapper.readerFor(PlayerItemDto.class)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    /**
+     * Hands every player to the consumer as soon as it is parsed. The stream is closed at the end.
+     * @return number of players read
+     */
+    public long forEachPlayer(InputStream body, Consumer<PlayerItemDto> consumer) {
+        try (JsonParser parser = mapper.createParser(body)) {
+            if (!moveToPlayers(parser)) {
+                return 0;
+            }
+            long count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                consumer.accept(itemReader.<PlayerItemDto>readValue(parser));
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Lazy stream of players; the body is read while the stream is consumed.
+     * The caller must close the stream (try-with-resources) to release the connection.
+     */
+    public Stream<PlayerItemDto> stream(InputStream body) {
+        JsonParser parser = mapper.createParser(body);
+        boolean hasPlayers;
+        try {
+            hasPlayers = moveToPlayers(parser);
+        } catch (RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+        if (!hasPlayers) {
+            parser.close();
+            return Stream.empty();
+        }
+
+        var spliterator = new Spliterators.AbstractSpliterator<PlayerItemDto>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super PlayerItemDto> action) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return false;
+                }
+                action.accept(itemReader.<PlayerItemDto>readValue(parser));
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(parser::close);
+    }
+
+    /**
+     * Positions the parser on the START_ARRAY token of the "players" field.
+     * @return false if the body has no players array (e.g. {@code {"players": null}} or an empty object)
+     */
+    static boolean moveToPlayers(JsonParser parser) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Expected get all players body to be a JSON object, got " + parser.currentToken());
+        }
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (PLAYERS_FIELD.equals(name) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package utils;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared, bounded keep-alive connection pool for RestAssured.
+ * One transport exists per {@link ConnectionPoolConfig}, so every {@link RestClient} built with the same settings
+ * reuses the same sockets instead of opening a new connection per request.
+ * <p>
+ * RestAssured shuts the connection manager down after each request unless the client instance is reused,
+ * that's why {@link #httpClientConfig()} always enables {@code reuseHttpClientInstance()}.
+ */
+@SuppressWarnings("deprecation")
+public final class PooledHttpTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledHttpTransport.class);
+
+    private static final Map<ConnectionPoolConfig, PooledHttpTransport> TRANSPORTS = new ConcurrentHashMap<>();
+
+    private final ConnectionPoolConfig config;
+    private final PoolingClientConnectionManager connectionManager;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService evictor;
+
+    private PooledHttpTransport(ConnectionPoolConfig config) {
+        this.config = config;
+        this.connectionManager = new PoolingClientConnectionManager();
+        this.connectionManager.setMaxTotal(config.maxTotal());
+        this.connectionManager.setDefaultMaxPerRoute(config.maxPerRoute());
+        this.httpClient = new DefaultHttpClient(connectionManager);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long periodMillis = Math.max(config.idleTimeout().toMillis() / 2, 1);
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        logger.info("Created pooled HTTP transport: {}", config);
+    }
+
+    /**
+     * Returns the transport for the given settings, creating it on first use.
+     */
+    public static PooledHttpTransport shared(ConnectionPoolConfig config) {
+        return TRANSPORTS.computeIfAbsent(config, PooledHttpTransport::new);
+    }
+
+    /**
+     * Closes all pools. Should be called once, when no more requests are expected (e.g. at suite end).
+     */
+    public static void shutdownAll() {
+        TRANSPORTS.values().forEach(PooledHttpTransport::shutdown);
+        TRANSPORTS.clear();
+    }
+
+    /**
+     * RestAssured http client config that hands out the pooled client for every request.
+     */
+    public HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> httpClient);
+    }
+
+    private void evictIdleConnections() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(config.idleTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void shutdown() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+        logger.info("Closed pooled HTTP transport: {}", config);
+    }
+}
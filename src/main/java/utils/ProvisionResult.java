@@ -0,0 +1,20 @@
+package utils;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerDetailsDto;
+
+/**
+ * Outcome of one item of a bulk create: either the created player or the error that prevented it.
+ * @param index position of the item in the submitted list
+ */
+public record ProvisionResult(
+        int index,
+        PlayerDetailsDto request,
+        PlayerCreateResponseDto player,
+        String error
+) {
+
+    public boolean isSuccess() {
+        return player != null;
+    }
+}
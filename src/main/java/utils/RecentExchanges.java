@@ -0,0 +1,77 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The last few exchanges made by each thread, kept for diagnostics when a test fails.
+ * Every thread writes only to its own ring buffer, so recording needs no locks or atomics;
+ * {@link #recent()} and {@link #clear()} also act on the calling thread's buffer.
+ */
+public final class RecentExchanges {
+
+    public static final int DEFAULT_CAPACITY = 20;
+
+    private static final RecentExchanges GLOBAL = new RecentExchanges(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final ThreadLocal<Ring> rings;
+
+    public RecentExchanges(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.rings = ThreadLocal.withInitial(() -> new Ring(this.capacity));
+    }
+
+    /**
+     * Buffers shared by all clients in the JVM.
+     */
+    public static RecentExchanges global() {
+        return GLOBAL;
+    }
+
+    public void record(RecordedExchange exchange) {
+        rings.get().add(exchange);
+    }
+
+    /**
+     * Exchanges of the current thread, oldest first.
+     */
+    public List<RecordedExchange> recent() {
+        return rings.get().snapshot();
+    }
+
+    public void clear() {
+        rings.get().clear();
+    }
+
+    private static final class Ring {
+        private final RecordedExchange[] entries;
+        private long written;
+
+        Ring(int capacity) {
+            entries = new RecordedExchange[capacity];
+        }
+
+        void add(RecordedExchange exchange) {
+            entries[(int) (written++ % entries.length)] = exchange;
+        }
+
+        List<RecordedExchange> snapshot() {
+            long start = Math.max(0, written - entries.length);
+            List<RecordedExchange> snapshot = new ArrayList<>((int) (written - start));
+            for (long i = start; i < written; i++) {
+                snapshot.add(entries[(int) (i % entries.length)]);
+            }
+            return snapshot;
+        }
+
+        void clear() {
+            Arrays.fill(entries, null);
+            written = 0;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * One request/response pair captured by {@link ExchangeCaptureFilter}.
+ * Bodies are kept as received (response bytes cut to {@link #MAX_BODY_LENGTH}) and only turned into text by {@link #format()},
+ * so capturing stays cheap when nothing is ever printed.
+ * @param status response status, or -1 if the request failed with {@code error}
+ */
+public record RecordedExchange(
+        long startedAtMillis,
+        String method,
+        String uri,
+        int status,
+        long durationMicros,
+        Object requestBody,
+        byte[] responseBody,
+        int responseLength,
+        String error
+) {
+
+    public static final int MAX_BODY_LENGTH = 2000;
+
+    static RecordedExchange of(long startedAtMillis, String method, String uri, int status, long durationMicros,
+                               Object requestBody, byte[] responseBody) {
+        byte[] kept = responseBody.length <= MAX_BODY_LENGTH ? responseBody : Arrays.copyOf(responseBody, MAX_BODY_LENGTH);
+        return new RecordedExchange(startedAtMillis, method, uri, status, durationMicros, requestBody, kept, responseBody.length, null);
+    }
+
+    static RecordedExchange failed(long startedAtMillis, String method, String uri, long durationMicros,
+                                   Object requestBody, Throwable error) {
+        return new RecordedExchange(startedAtMillis, method, uri, -1, durationMicros, requestBody, new byte[0], 0, error.toString());
+    }
+
+    /**
+     * Status 400+ or no response at all.
+     */
+    public boolean isFailure() {
+        return status < 0 || status >= 400;
+    }
+
+    public String format() {
+        var text = new StringBuilder()
+                .append(Instant.ofEpochMilli(startedAtMillis)).append(' ')
+                .append(method).append(' ').append(uri).append(" -> ")
+                .append(error != null ? error : String.valueOf(status))
+                .append(" in ").append(durationMicros / 1000.0).append(" ms")
+                .append(System.lineSeparator()).append("Request body: ");
+        String request = String.valueOf(requestBody);
+        if (request.length() <= MAX_BODY_LENGTH) {
+            text.append(request);
+        } else {
+            text.append(request, 0, MAX_BODY_LENGTH).append("... (").append(request.length()).append(" chars)");
+        }
+        if (error == null) {
+            text.append(System.lineSeparator()).append("Response body: ").append(new String(responseBody, StandardCharsets.UTF_8));
+            if (responseLength > responseBody.length) {
+                text.append("... (").append(responseLength).append(" bytes)");
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free log of the most recent failed requests: once full, the oldest entries are overwritten.
+ * Lets quiet logging profiles keep diagnostics for failures without logging every request.
+ */
+public final class RequestFailureLog {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final RequestFailureLog GLOBAL = new RequestFailureLog(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final AtomicReferenceArray<String> entries;
+    private final AtomicLong written = new AtomicLong();
+
+    public RequestFailureLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Log shared by all clients in the JVM.
+     */
+    public static RequestFailureLog global() {
+        return GLOBAL;
+    }
+
+    public void add(String entry) {
+        long index = written.getAndIncrement();
+        entries.set((int) (index % capacity), entry);
+    }
+
+    /**
+     * Number of failures recorded so far, including overwritten ones.
+     */
+    public long totalCount() {
+        return written.get();
+    }
+
+    /**
+     * Retained entries, oldest first. Entries written concurrently with the call may be missing or already newer.
+     */
+    public List<String> snapshot() {
+        long end = written.get();
+        long start = Math.max(0, end - capacity);
+        List<String> snapshot = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            String entry = entries.get((int) (i % capacity));
+            if (entry != null) {
+                snapshot.add(entry);
+            }
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,97 @@
+package utils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Per-endpoint client-side rate limit (token bucket) and concurrency limit (semaphore) for {@link RestClient},
+ * so parallel runs stay within a declared request budget of the shared server.
+ * Time spent waiting for a slot is recorded per endpoint in {@link #getWaitTimes()}; unlimited endpoints are not throttled or recorded.
+ */
+public final class RequestThrottle {
+
+    private static final Map<Map<ApiEndpoint, EndpointLimit>, RequestThrottle> SHARED = new ConcurrentHashMap<>();
+    private static final RequestThrottle NONE = new RequestThrottle(Map.of());
+    private static final Permit NO_PERMIT = () -> { };
+
+    private final Map<ApiEndpoint, EndpointLimit> limits;
+    private final Map<ApiEndpoint, TokenBucket> buckets = new EnumMap<>(ApiEndpoint.class);
+    private final Map<ApiEndpoint, Semaphore> inFlight = new EnumMap<>(ApiEndpoint.class);
+    private final LatencyRecorder waitTimes = new LatencyRecorder();
+
+    private RequestThrottle(Map<ApiEndpoint, EndpointLimit> limits) {
+        this.limits = Map.copyOf(limits);
+        limits.forEach((endpoint, limit) -> {
+            if (limit.isRateLimited()) {
+                buckets.put(endpoint, new TokenBucket(limit.permitsPerSecond(), limit.burst()));
+            }
+            if (limit.isConcurrencyLimited()) {
+                inFlight.put(endpoint, new Semaphore(limit.maxInFlight(), true));
+            }
+        });
+    }
+
+    /**
+     * Throttle that never waits.
+     */
+    public static RequestThrottle none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the JVM-wide throttle for these limits, so all clients configured alike share one budget.
+     * Endpoints missing from {@code limits} are unlimited.
+     */
+    public static RequestThrottle shared(Map<ApiEndpoint, EndpointLimit> limits) {
+        if (limits.isEmpty()) {
+            return NONE;
+        }
+        return SHARED.computeIfAbsent(Map.copyOf(limits), RequestThrottle::new);
+    }
+
+    public EndpointLimit getLimit(ApiEndpoint endpoint) {
+        return limits.getOrDefault(endpoint, EndpointLimit.UNLIMITED);
+    }
+
+    /**
+     * Waits for a rate slot and an in-flight permit. The permit must be closed when the request completes.
+     */
+    public Permit acquire(ApiEndpoint endpoint) throws InterruptedException {
+        TokenBucket bucket = buckets.get(endpoint);
+        Semaphore semaphore = inFlight.get(endpoint);
+        if (bucket == null && semaphore == null) {
+            return NO_PERMIT;
+        }
+        long start = System.nanoTime();
+        if (semaphore != null) {
+            semaphore.acquire();
+        }
+        try {
+            if (bucket != null) {
+                bucket.acquire();
+            }
+        } catch (InterruptedException e) {
+            if (semaphore != null) {
+                semaphore.release();
+            }
+            throw e;
+        }
+        waitTimes.record(endpoint, System.nanoTime() - start);
+        return semaphore == null ? NO_PERMIT : semaphore::release;
+    }
+
+    /**
+     * Time requests spent waiting for a slot, per throttled endpoint.
+     */
+    public LatencyRecorder getWaitTimes() {
+        return waitTimes;
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
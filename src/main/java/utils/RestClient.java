@@ -1,8 +1,10 @@
 package utils;
 
+import dto.PlayerDetailsDto;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseBuilder;
 import io.restassured.config.LogConfig;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.LogDetail;
@@ -14,28 +16,103 @@ import io.restassured.specification.RequestSpecification;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static io.restassured.RestAssured.given;
 
 public class RestClient {
-    private final RequestSpecification spec;
+    private final RequestSpecification fullLoggingSpec;
+    private final RequestSpecification captureSpec;
+    private final RequestSpecification quietSpec;
+    private final LoggingProfile loggingProfile;
+    private final int sampleEvery;
+    private final AtomicLong requestCounter = new AtomicLong();
     private final ObjectMapper mapper = new ObjectMapper();
+    private final LatencyRecorder latencyRecorder = LatencyRecorder.global();
+    private final RequestThrottle throttle;
+    private final RetryPolicy retryPolicy;
+    private final RetryStats retryStats;
+    private final PlayerStreamParser streamParser = new PlayerStreamParser(mapper);
+    private final PlayerOperationListener operationListener;
+
+    private static final AtomicLong operationIds = new AtomicLong();
 
     private static final RestAssuredConfig DEFAULT_REST_ASSURED_CONFIG = RestAssured.config()
             .logConfig(LogConfig.logConfig()
                     .enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL));
 
     public RestClient(String baseUrl) {
-        this.spec = new RequestSpecBuilder()
-                .setBaseUri(baseUrl)
-                .setConfig(DEFAULT_REST_ASSURED_CONFIG)
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
+        this(builder(baseUrl));
+    }
+
+    /**
+     * Creates a client that sends all requests through the shared keep-alive pool described by {@code poolConfig}.
+     */
+    public RestClient(String baseUrl, ConnectionPoolConfig poolConfig) {
+        this(builder(baseUrl).connectionPool(poolConfig));
+    }
+
+    private RestClient(Builder builder) {
+        RestAssuredConfig config = builder.poolConfig == null
+                ? DEFAULT_REST_ASSURED_CONFIG
+                : DEFAULT_REST_ASSURED_CONFIG.httpClient(PooledHttpTransport.shared(builder.poolConfig).httpClientConfig());
+        this.loggingProfile = builder.loggingProfile;
+        this.sampleEvery = builder.sampleEvery;
+        this.throttle = builder.throttle;
+        this.retryPolicy = builder.retryPolicy;
+        this.retryStats = builder.retryStats;
+        this.operationListener = builder.operationListener;
+        var captureFilter = new ExchangeCaptureFilter(builder.recentExchanges, builder.failureLog);
+        this.fullLoggingSpec = baseSpec(builder.baseUrl, config)
+                .addFilter(captureFilter)
                 .addFilter(new AllureRestAssured())
                 .addFilter(new RequestLoggingFilter())
                 .addFilter(new ResponseLoggingFilter())
                 .build();
+        this.captureSpec = baseSpec(builder.baseUrl, config)
+                .addFilter(captureFilter)
+                .build();
+        this.quietSpec = baseSpec(builder.baseUrl, config).build();
+    }
+
+    public static Builder builder(String baseUrl) {
+        return new Builder(baseUrl);
+    }
+
+    private static RequestSpecBuilder baseSpec(String baseUrl, RestAssuredConfig config) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(config)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON);
+    }
+
+    /**
+     * Hot path for well-formed requests: the query string is built by {@link PlayerQueryTemplate} and sent as is,
+     * so RestAssured does not re-encode it.
+     * <p>
+     * Create is not idempotent, so it is retried only after checking that the failed attempt did not create the player
+     * (same screenName in get/all and same login by id); if it did, that player's response is returned instead.
+     * @param editor - the role of the user creating the player
+     */
+    public Response createPlayer(String editor, PlayerDetailsDto playerDetails) {
+        String path = ApiEndpoint.CREATE.getPath() + PlayerQueryTemplate.toQueryString(playerDetails);
+
+        return observe(ApiEndpoint.CREATE, editor, null, playerDetails, () -> withRetries(ApiEndpoint.CREATE, () -> given()
+                .spec(spec())
+                .urlEncodingEnabled(false)
+                .pathParam("editor", PlayerQueryTemplate.encode(editor))
+                .when()
+                .get(path),
+                () -> findCreatedPlayer(playerDetails), UnaryOperator.identity()));
     }
 
     /**
@@ -46,12 +123,12 @@ public class RestClient {
     public Response createPlayer(String editor, Object playerDetails) {
         Map<String, Object> params = mapper.convertValue(playerDetails, new TypeReference<>() {});
 
-        return given()
-                .spec(spec)
+        return observe(ApiEndpoint.CREATE, editor, null, playerDetails, () -> execute(ApiEndpoint.CREATE, () -> given()
+                .spec(spec())
                 .pathParam("editor", editor)
                 .queryParams(params)
                 .when()
-                .get("/player/create/{editor}");
+                .get(ApiEndpoint.CREATE.getPath())));
     }
 
     /**
@@ -59,19 +136,13 @@ public class RestClient {
      * @param playerId id of the player to get
      */
     public Response getPlayer(Object playerId) {
-        var body = Map.of("playerId", playerId);
-        return given()
-                .spec(spec)
-                .body(body)
-                .when()
-                .post("/player/get");
+        return observe(ApiEndpoint.GET, null, playerId, null,
+                () -> withRetries(ApiEndpoint.GET, getPlayerRequest(playerId), null, UnaryOperator.identity()));
     }
 
     public Response getAllPlayers() {
-        return given()
-                .spec(spec)
-                .when()
-                .get("/player/get/all");
+        return observe(ApiEndpoint.GET_ALL, null, null, null,
+                () -> withRetries(ApiEndpoint.GET_ALL, getAllPlayersRequest(), null, UnaryOperator.identity()));
     }
 
     /**
@@ -81,13 +152,13 @@ public class RestClient {
      * @param body Partial player data for update
      */
     public Response updatePlayer(String editor, long id, Object body) {
-        return given()
-                .spec(spec)
+        return observe(ApiEndpoint.UPDATE, editor, id, body, () -> execute(ApiEndpoint.UPDATE, () -> given()
+                .spec(spec())
                 .pathParam("editor", editor)
                 .pathParam("id", id)
                 .body(body)
                 .when()
-                .patch("/player/update/{editor}/{id}");
+                .patch(ApiEndpoint.UPDATE.getPath())));
     }
 
     /**
@@ -98,29 +169,228 @@ public class RestClient {
      */
     public Response updatePlayerWithRawId(String editor, Object id, Object body) {
         String idSegment = id == null ? "null" : String.valueOf(id);
-        return given()
-                .spec(spec)
+        return observe(ApiEndpoint.UPDATE, editor, id, body, () -> execute(ApiEndpoint.UPDATE, () -> given()
+                .spec(spec())
                 .pathParam("editor", editor)
                 .pathParam("id", idSegment)
                 .body(body)
                 .when()
-                .patch("/player/update/{editor}/{id}");
+                .patch(ApiEndpoint.UPDATE.getPath())));
     }
 
     /**
      * DELETE: Uses DELETE with editor in path and playerId in body. Accepts arbitrary object for playerId.
+     * Delete is idempotent and retried; a 404 on a retry means an earlier attempt succeeded and is reported as 204.
      * @param editor login of the performing user
      * @param playerId id of the player to delete (can be non-Long for negative tests)
      */
     public Response deletePlayer(String editor, Object playerId) {
         var body = Map.of("playerId", playerId);
 
-        return given()
-                .spec(spec)
+        return observe(ApiEndpoint.DELETE, editor, playerId, body, () -> withRetries(ApiEndpoint.DELETE, () -> given()
+                .spec(spec())
                 .pathParam("editor", editor)
                 .body(body)
                 .when()
-                .delete("/player/delete/{editor}");
+                .delete(ApiEndpoint.DELETE.getPath()),
+                null, this::deletedByEarlierAttempt));
+    }
+
+    /**
+     * Client-side limits applied to this client's requests, with the time spent waiting for them.
+     */
+    public RequestThrottle getThrottle() {
+        return throttle;
+    }
+
+    /**
+     * Retries made by this client, per endpoint.
+     */
+    public RetryStats getRetryStats() {
+        return retryStats;
+    }
+
+    /**
+     * Latencies of all calls made by this client, per endpoint (not including time spent in the throttle).
+     */
+    public LatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
+    /**
+     * Spec for the next request, carrying only the filters its logging profile needs.
+     */
+    private RequestSpecification spec() {
+        return switch (loggingProfile) {
+            case FULL -> fullLoggingSpec;
+            case FAILURES_ONLY -> captureSpec;
+            case SAMPLED -> requestCounter.getAndIncrement() % sampleEvery == 0 ? fullLoggingSpec : captureSpec;
+            case OFF -> quietSpec;
+        };
+    }
+
+    private Supplier<Response> getPlayerRequest(Object playerId) {
+        var body = Map.of("playerId", playerId);
+        return () -> given()
+                .spec(spec())
+                .body(body)
+                .when()
+                .post(ApiEndpoint.GET.getPath());
+    }
+
+    private Supplier<Response> getAllPlayersRequest() {
+        return () -> given()
+                .spec(spec())
+                .when()
+                .get(ApiEndpoint.GET_ALL.getPath());
+    }
+
+    /**
+     * Reports the whole call, retries included, to the {@link PlayerOperationListener}.
+     */
+    private Response observe(ApiEndpoint endpoint, String editor, Object playerId, Object request, Supplier<Response> call) {
+        if (operationListener == PlayerOperationListener.NONE) {
+            return call.get();
+        }
+        long operationId = operationIds.incrementAndGet();
+        operationListener.onStart(operationId, endpoint, playerId);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = call.get();
+        } catch (Exception e) {
+            // includes IOExceptions rethrown undeclared by RestAssured
+            operationListener.onComplete(new PlayerOperation(operationId, endpoint, editor, playerId, request, null, e, start, System.nanoTime()));
+            throw e;
+        }
+        operationListener.onComplete(new PlayerOperation(operationId, endpoint, editor, playerId, request, response, null, start, System.nanoTime()));
+        return response;
+    }
+
+    /**
+     * Sends the request, repeating it per {@link #retryPolicy} on retryable statuses and connection failures.
+     * Each attempt is throttled and timed separately.
+     * @param alreadyApplied called before each retry; returns the response to use if the failed attempt took effect after all, or null
+     * @param onRetriedResponse adjusts a response received on a retry
+     */
+    private Response withRetries(ApiEndpoint endpoint, Supplier<Response> request,
+                                 Supplier<Response> alreadyApplied, UnaryOperator<Response> onRetriedResponse) {
+        for (int attempt = 1; ; attempt++) {
+            Response response;
+            try {
+                response = execute(endpoint, request);
+            } catch (Exception e) {
+                // RestAssured rethrows connection failures (IOExceptions) undeclared, hence Exception
+                if (!retryPolicy.isRetryable(e) || attempt >= retryPolicy.maxAttempts()) {
+                    if (attempt > 1) {
+                        retryStats.exhausted(endpoint);
+                    }
+                    throw e;
+                }
+                Response applied = awaitRetry(endpoint, attempt, alreadyApplied);
+                if (applied != null) {
+                    return applied;
+                }
+                continue;
+            }
+
+            if (attempt > 1) {
+                response = onRetriedResponse.apply(response);
+            }
+            if (!retryPolicy.isRetryable(response.getStatusCode())) {
+                if (attempt > 1) {
+                    retryStats.recovered(endpoint);
+                }
+                return response;
+            }
+            if (attempt >= retryPolicy.maxAttempts()) {
+                if (attempt > 1) {
+                    retryStats.exhausted(endpoint);
+                }
+                return response;
+            }
+            Response applied = awaitRetry(endpoint, attempt, alreadyApplied);
+            if (applied != null) {
+                return applied;
+            }
+        }
+    }
+
+    private Response awaitRetry(ApiEndpoint endpoint, int failedAttempt, Supplier<Response> alreadyApplied) {
+        retryStats.retried(endpoint);
+        try {
+            Thread.sleep(retryPolicy.backoff(failedAttempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a %s request".formatted(endpoint), e);
+        }
+        if (alreadyApplied == null) {
+            return null;
+        }
+        Response applied = alreadyApplied.get();
+        if (applied != null) {
+            retryStats.deduplicated(endpoint);
+        }
+        return applied;
+    }
+
+    private Response deletedByEarlierAttempt(Response response) {
+        if (response.getStatusCode() != HttpURLConnection.HTTP_NOT_FOUND) {
+            return response;
+        }
+        retryStats.deduplicated(ApiEndpoint.DELETE);
+        return new ResponseBuilder()
+                .clone(response)
+                .setStatusCode(HttpURLConnection.HTTP_NO_CONTENT)
+                .setStatusLine("HTTP/1.1 204 No Content")
+                .setBody("")
+                .build();
+    }
+
+    /**
+     * Looks for a player created by a failed create attempt: candidates by screenName from get/all, confirmed by login.
+     * @return the get-by-id response of that player, or null if it was not created
+     */
+    private Response findCreatedPlayer(PlayerDetailsDto playerDetails) {
+        Response all = withRetries(ApiEndpoint.GET_ALL, getAllPlayersRequest(), null, UnaryOperator.identity());
+        if (all.getStatusCode() != HttpURLConnection.HTTP_OK) {
+            throw new IllegalStateException("Cannot check whether player %s was created before retrying: get/all returned %d"
+                    .formatted(playerDetails.login(), all.getStatusCode()));
+        }
+        List<Long> candidates = new ArrayList<>();
+        streamParser.forEachPlayer(all.asInputStream(), player -> {
+            if (player.id() != null && Objects.equals(player.screenName(), playerDetails.screenName())) {
+                candidates.add(player.id());
+            }
+        });
+        for (Long id : candidates) {
+            Response player = withRetries(ApiEndpoint.GET, getPlayerRequest(id), null, UnaryOperator.identity());
+            if (player.getStatusCode() == HttpURLConnection.HTTP_OK
+                    && Objects.equals(player.jsonPath().getString("login"), playerDetails.login())) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    private Response execute(ApiEndpoint endpoint, Supplier<Response> request) {
+        var permit = acquirePermit(endpoint);
+        long start = System.nanoTime();
+        try {
+            return request.get();
+        } finally {
+            latencyRecorder.record(endpoint, System.nanoTime() - start);
+            permit.close();
+        }
+    }
+
+    private RequestThrottle.Permit acquirePermit(ApiEndpoint endpoint) {
+        try {
+            return throttle.acquire(endpoint);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a %s request slot".formatted(endpoint), e);
+        }
     }
 
     /**
@@ -139,4 +409,91 @@ public class RestClient {
         return response.as(cls);
     }
 
+    public static final class Builder {
+        private final String baseUrl;
+        private ConnectionPoolConfig poolConfig;
+        private LoggingProfile loggingProfile = LoggingProfile.FULL;
+        private int sampleEvery = 100;
+        private RequestFailureLog failureLog = RequestFailureLog.global();
+        private RecentExchanges recentExchanges = RecentExchanges.global();
+        private RequestThrottle throttle = RequestThrottle.none();
+        private RetryPolicy retryPolicy = RetryPolicy.NONE;
+        private RetryStats retryStats = RetryStats.global();
+        private PlayerOperationListener operationListener = PlayerOperationListener.NONE;
+
+        private Builder(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        /**
+         * Sends all requests through the shared keep-alive pool described by {@code poolConfig}.
+         */
+        public Builder connectionPool(ConnectionPoolConfig poolConfig) {
+            this.poolConfig = poolConfig;
+            return this;
+        }
+
+        public Builder logging(LoggingProfile loggingProfile) {
+            this.loggingProfile = loggingProfile;
+            return this;
+        }
+
+        /**
+         * For {@link LoggingProfile#SAMPLED}: log one request in {@code sampleEvery} in full.
+         */
+        public Builder sampleEvery(int sampleEvery) {
+            if (sampleEvery <= 0) {
+                throw new IllegalArgumentException("sampleEvery must be positive, got " + sampleEvery);
+            }
+            this.sampleEvery = sampleEvery;
+            return this;
+        }
+
+        public Builder failureLog(RequestFailureLog failureLog) {
+            this.failureLog = failureLog;
+            return this;
+        }
+
+        /**
+         * Where each thread's last exchanges are kept for failure diagnostics (not used with {@link LoggingProfile#OFF}).
+         */
+        public Builder recentExchanges(RecentExchanges recentExchanges) {
+            this.recentExchanges = recentExchanges;
+            return this;
+        }
+
+        /**
+         * Per-endpoint rate and concurrency limits; usually a {@link RequestThrottle#shared} instance.
+         */
+        public Builder throttle(RequestThrottle throttle) {
+            this.throttle = throttle;
+            return this;
+        }
+
+        /**
+         * Retries of reads, deletes and (with a dedupe check) creates; updates are never retried.
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        public Builder retryStats(RetryStats retryStats) {
+            this.retryStats = retryStats;
+            return this;
+        }
+
+        /**
+         * Notified of every call (create, get, get/all, update, delete) with its final outcome; combine several with
+         * {@link PlayerOperationListener#andThen}.
+         */
+        public Builder operationListener(PlayerOperationListener operationListener) {
+            this.operationListener = operationListener;
+            return this;
+        }
+
+        public RestClient build() {
+            return new RestClient(this);
+        }
+    }
 }
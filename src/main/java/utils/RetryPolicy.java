@@ -0,0 +1,64 @@
+package utils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * When and how often {@link RestClient} repeats a request that failed transiently.
+ * Which endpoints are retried at all is decided by the client (reads and deletes; creates only after a dedupe check).
+ * @param maxAttempts total attempts including the first one; 1 disables retries
+ * @param baseDelay backoff before the first retry, doubled for each next one
+ * @param maxDelay cap of the backoff
+ * @param retryableStatuses response statuses treated as transient
+ */
+public record RetryPolicy(
+        int maxAttempts,
+        Duration baseDelay,
+        Duration maxDelay,
+        Set<Integer> retryableStatuses
+) {
+
+    /**
+     * 502/503/504 only: a 500 is more likely a real server bug than an overloaded proxy.
+     */
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUSES = Set.of(502, 503, 504);
+
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, Set.of());
+
+    public RetryPolicy {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive, got " + maxAttempts);
+        }
+        if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Invalid backoff: baseDelay=%s, maxDelay=%s".formatted(baseDelay, maxDelay));
+        }
+        retryableStatuses = Set.copyOf(retryableStatuses);
+    }
+
+    public boolean isRetryable(int statusCode) {
+        return retryableStatuses.contains(statusCode);
+    }
+
+    /**
+     * Connection-level failures (refused, reset, timed out) surface from RestAssured as {@link IOException}s.
+     */
+    public boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Exponential backoff with full jitter: random delay in [0, min(maxDelay, baseDelay * 2^(attempt-1))].
+     * @param attempt the attempt that has just failed, starting from 1
+     */
+    public Duration backoff(int attempt) {
+        long ceiling = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
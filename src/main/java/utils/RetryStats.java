@@ -0,0 +1,78 @@
+package utils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint retry counters of {@link RestClient}, so retries that keep a run green are still visible.
+ */
+public final class RetryStats {
+
+    private static final RetryStats GLOBAL = new RetryStats();
+
+    private final Map<ApiEndpoint, Counters> counters = new EnumMap<>(ApiEndpoint.class);
+
+    public RetryStats() {
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            counters.put(endpoint, new Counters());
+        }
+    }
+
+    /**
+     * Stats shared by all clients in the JVM.
+     */
+    public static RetryStats global() {
+        return GLOBAL;
+    }
+
+    void retried(ApiEndpoint endpoint) {
+        counters.get(endpoint).retries.increment();
+    }
+
+    void recovered(ApiEndpoint endpoint) {
+        counters.get(endpoint).recovered.increment();
+    }
+
+    void exhausted(ApiEndpoint endpoint) {
+        counters.get(endpoint).exhausted.increment();
+    }
+
+    void deduplicated(ApiEndpoint endpoint) {
+        counters.get(endpoint).deduplicated.increment();
+    }
+
+    public long getRetries(ApiEndpoint endpoint) {
+        return counters.get(endpoint).retries.sum();
+    }
+
+    public long getTotalRetries() {
+        return counters.values().stream().mapToLong(c -> c.retries.sum()).sum();
+    }
+
+    /**
+     * Table of endpoints that were retried at least once.
+     * recovered: succeeded after a retry; exhausted: still failing after the last attempt;
+     * deduplicated: retried create or delete turned out to have taken effect already.
+     */
+    public String summary() {
+        var summary = new StringJoiner(System.lineSeparator());
+        summary.add("%-8s %8s %10s %10s %13s".formatted("endpoint", "retries", "recovered", "exhausted", "deduplicated"));
+        counters.forEach((endpoint, c) -> {
+            if (c.retries.sum() == 0) {
+                return;
+            }
+            summary.add("%-8s %8d %10d %10d %13d".formatted(
+                    endpoint, c.retries.sum(), c.recovered.sum(), c.exhausted.sum(), c.deduplicated.sum()));
+        });
+        return summary.toString();
+    }
+
+    private static final class Counters {
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder recovered = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder deduplicated = new LongAdder();
+    }
+}
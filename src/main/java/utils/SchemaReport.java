@@ -0,0 +1,27 @@
+package utils;
+
+import java.util.List;
+
+/**
+ * Outcome of validating a body with {@link PlayerSchema}.
+ * @param objects player objects read
+ * @param invalid player objects with at least one violation, plus structural problems of the body itself
+ * @param violations messages for the first violations found, capped by the caller's {@code maxReported}
+ */
+public record SchemaReport(long objects, long invalid, List<String> violations) {
+
+    public boolean isValid() {
+        return invalid == 0;
+    }
+
+    public String summary() {
+        return "%d of %d player(s) violate the schema".formatted(invalid, objects);
+    }
+
+    /**
+     * Summary followed by the kept messages, one per line.
+     */
+    public String describe() {
+        return violations.isEmpty() ? summary() : summary() + ":" + System.lineSeparator() + String.join(System.lineSeparator(), violations);
+    }
+}
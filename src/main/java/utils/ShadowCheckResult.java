@@ -0,0 +1,23 @@
+package utils;
+
+import java.util.List;
+
+/**
+ * Outcome of one {@link PlayerShadowModel#compare} round.
+ * @param compared tracked players whose state was compared with the snapshot
+ * @param skipped tracked players left out because an operation on them overlapped the snapshot or its outcome is unknown
+ * @param untracked players in the snapshot that were never seen by the shadow model (e.g. created by other clients)
+ */
+public record ShadowCheckResult(
+        int snapshotSize,
+        int compared,
+        int skipped,
+        int untracked,
+        List<ShadowDivergence> divergences
+) {
+
+    public String summary() {
+        return "snapshot %d players: compared %d, skipped %d, untracked %d, divergences %d"
+                .formatted(snapshotSize, compared, skipped, untracked, divergences.size());
+    }
+}
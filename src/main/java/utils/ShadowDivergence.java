@@ -0,0 +1,37 @@
+package utils;
+
+import dto.PlayerItemDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Difference between {@link PlayerShadowModel} and a get/all snapshot for a player no operation was touching at the time.
+ * @param expected what the shadow model expected, null if the player should not exist
+ * @param actual what get/all returned, null if the player was missing
+ * @param history last operations on the player made through the observed client, oldest first
+ */
+public record ShadowDivergence(
+        Kind kind,
+        long playerId,
+        PlayerItemDto expected,
+        PlayerItemDto actual,
+        List<String> history
+) {
+
+    public enum Kind {
+        /** Created (or last updated) successfully, but missing from get/all. */
+        LOST_PLAYER,
+        /** Present, but fields differ from the last successful create or update. */
+        LOST_UPDATE,
+        /** Deleted successfully, but still in get/all. */
+        RESURRECTED_PLAYER,
+        /** Unknown id carrying the screenName of a tracked player, e.g. a create applied twice. */
+        PHANTOM_PLAYER
+    }
+
+    public String format() {
+        return "%s: player %d expected %s, got %s%n  history:%n%s".formatted(kind, playerId, expected, actual,
+                history.isEmpty() ? "    (none)" : history.stream().map(line -> "    " + line).collect(Collectors.joining(System.lineSeparator())));
+    }
+}
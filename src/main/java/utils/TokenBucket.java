@@ -0,0 +1,50 @@
+package utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token bucket in its "virtual scheduling" form (GCRA): instead of counting tokens it keeps the
+ * theoretical arrival time of the next request. Each caller reserves its slot with one CAS and then sleeps until
+ * the slot starts, so waiting callers are served in reservation order.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+    }
+
+    /**
+     * Blocks until the caller may send a request.
+     */
+    void acquire() throws InterruptedException {
+        long now;
+        long waitNanos;
+        while (true) {
+            now = System.nanoTime();
+            long arrival = theoreticalArrival.get();
+            long slot = Math.max(arrival, now);
+            if (theoreticalArrival.compareAndSet(arrival, slot + intervalNanos)) {
+                waitNanos = slot - burstToleranceNanos - now;
+                break;
+            }
+        }
+        if (waitNanos <= 0) {
+            return;
+        }
+        long deadline = now + waitNanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
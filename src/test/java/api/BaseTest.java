@@ -1,24 +1,56 @@
 package api;
 
 import dto.*;
+import entities.Role;
 import io.qameta.allure.Allure;
 import io.restassured.RestAssured;
 import io.restassured.config.LogConfig;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeSuite;
 import org.testng.asserts.SoftAssert;
+import utils.ActorPool;
+import utils.AllureStepLog;
+import utils.AsyncRestClient;
+import utils.BulkPlayerProvisioner;
+import utils.LatencyRecorder;
+import utils.PlayerCleanupService;
+import utils.PlayerIndex;
+import utils.PlayerIndexCache;
+import utils.PlayerSchema;
+import utils.PlayerSchemas;
+import utils.PooledActor;
+import utils.PooledHttpTransport;
+import utils.ProvisionResult;
 import utils.RestClient;
+import utils.RequestFailureLog;
+import utils.RequestThrottle;
+import utils.RestClientFactory;
+import utils.RetryStats;
+import utils.SchemaReport;
+import utils.StubPlayerServer;
 import utils.TestConfig;
+import utils.TestDataGenerator;
 
 import java.net.HttpURLConnection;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static org.testng.Assert.assertTrue;
 import static utils.RestClient.as;
 
 /**
@@ -26,7 +58,10 @@ import static utils.RestClient.as;
  */
 public abstract class BaseTest {
 
+    private static final int MAX_REPORTED_SCHEMA_VIOLATIONS = 20;
+
     protected RestClient restClient;
+    protected AsyncRestClient asyncRestClient;
 
     protected final ThreadLocal<Queue<Long>> playersToDelete =
             ThreadLocal.withInitial(LinkedList::new);
@@ -39,22 +74,85 @@ public abstract class BaseTest {
                 LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL)
         );
         RestAssured.defaultParser = Parser.JSON;
+        LatencyRecorder.global().setExpectedInterval(TestConfig.getLatencyExpectedInterval());
+        TestDataGenerator.getSeed().ifPresent(seed -> log(log, "Test data seed is %d".formatted(seed)));
+        if (TestConfig.isStubEnabled()) {
+            log(log, "Running against the embedded stub player server");
+            StubPlayerServer.getInstance();
+        }
+        ActorPool.getInstance();
 
         log(log, "\uD83D\uDE80 Running tests! Base url is %s".formatted(TestConfig.getBaseUrl()));
+        AllureStepLog.flush();
     }
 
     @BeforeClass(alwaysRun = true)
     public void beforeClass() {
-        restClient = new RestClient(TestConfig.getBaseUrl());
+        restClient = RestClientFactory.fromConfig();
+        asyncRestClient = RestClientFactory.asyncFromConfig();
     }
 
+    /**
+     * In seeded mode, makes each test (and each data provider row) generate the same data on every run.
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void reseedTestData(ITestResult result) {
+        // parameter index, not values: generated parameters contain run-specific logins
+        TestDataGenerator.reseed(result.getMethod().getQualifiedName() + "#" + result.getParameterIndex());
+    }
+
+    /**
+     * Hands created players over to the background cleanup service, so the test does not wait for the deletes.
+     */
     @AfterMethod(alwaysRun = true)
     public void tearDown() {
+        var cleanupService = PlayerCleanupService.getInstance();
         while (!playersToDelete.get().isEmpty()) {
             Long playerId = playersToDelete.get().poll();
-            log(log, "Removing player with id %d".formatted(playerId));
-            restClient.deletePlayer(TestConfig.getSupervisorLogin(), playerId);
+            log(log, "Scheduling removal of player with id %d".formatted(playerId));
+            cleanupService.schedule(playerId);
         }
+        AllureStepLog.flush();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void afterSuite() throws InterruptedException {
+        ActorPool.shutdown(TestConfig.getCleanupTimeout());
+        List<Long> notDeleted = PlayerCleanupService.awaitCompletion(TestConfig.getCleanupTimeout());
+        if (!notDeleted.isEmpty()) {
+            log.error("Players left after cleanup: {}", notDeleted);
+        }
+
+        var latencyRecorder = LatencyRecorder.global();
+        Path latencyLog = TestConfig.getLatencyLogDir().resolve("latency-%d.hlog".formatted(System.currentTimeMillis()));
+        latencyRecorder.writeLog(latencyLog);
+        String summary = latencyRecorder.summary();
+        log.info("Request latencies (log: {}){}{}", latencyLog, System.lineSeparator(), summary);
+        Allure.addAttachment("Request latencies", "text/plain", summary);
+
+        var throttleWaits = RequestThrottle.shared(TestConfig.getEndpointLimits()).getWaitTimes().summary();
+        if (throttleWaits.lines().count() > 1) {
+            log.info("Time spent waiting for request slots{}{}", System.lineSeparator(), throttleWaits);
+            Allure.addAttachment("Request throttle waits", "text/plain", throttleWaits);
+        }
+
+        var retryStats = RetryStats.global();
+        if (retryStats.getTotalRetries() > 0) {
+            log.warn("Requests were retried{}{}", System.lineSeparator(), retryStats.summary());
+            Allure.addAttachment("Request retries", "text/plain", retryStats.summary());
+        }
+
+        var failureLog = RequestFailureLog.global();
+        if (failureLog.totalCount() > 0) {
+            var failures = failureLog.snapshot();
+            log.info("{} failed request(s), last {} attached to Allure", failureLog.totalCount(), failures.size());
+            Allure.addAttachment("Failed requests", "text/plain", String.join(System.lineSeparator() + System.lineSeparator(), failures));
+        }
+
+        AllureStepLog.awaitWrites(Duration.ofSeconds(30));
+        PooledHttpTransport.shutdownAll();
+        AsyncRestClient.shutdownAll();
+        StubPlayerServer.shutdown();
     }
 
     // region Helper Methods
@@ -66,17 +164,49 @@ public abstract class BaseTest {
     protected PlayerCreateResponseDto createPlayerAndRegister(String editor, PlayerDetailsDto request) {
         var response = restClient.createPlayer(editor, request);
         response.then().statusCode(HttpURLConnection.HTTP_OK);
+        // registered before the schema check, so a created player is cleaned up even if its response is malformed
         long id = response.jsonPath().getLong("id");
         playersToDelete.get().add(id);
+        assertMatchesSchema(response, PlayerSchemas.PLAYER);
         return response.as(PlayerCreateResponseDto.class);
     }
 
+    /**
+     * A helper method for tests that only need some player of the given role to act as.
+     * Takes a pre-created actor from {@link ActorPool} when one is ready, otherwise creates it.
+     * Either way the actor is registered for cleanup.
+     */
+    protected PooledActor leaseActor(Role role) {
+        // drawn on both paths, so seeded data of the rest of the test does not depend on whether the pool had an actor
+        var details = TestDataGenerator.getRandomPlayerDetails(role);
+        var leased = ActorPool.getInstance().lease(role);
+        if (leased.isPresent()) {
+            playersToDelete.get().add(leased.get().id());
+            return leased.get();
+        }
+        return new PooledActor(details, createPlayerAndRegister(TestConfig.getSupervisorLogin(), details));
+    }
+
+    /**
+     * A helper method for seeding many players at once with bounded parallelism.
+     * Successfully created players are registered for cleanup; failures are returned per item, not thrown.
+     */
+    protected List<ProvisionResult> createPlayersAndRegister(String editor, List<PlayerDetailsDto> requests) {
+        var results = new BulkPlayerProvisioner(asyncRestClient, TestConfig.getBulkMaxInFlight())
+                .createPlayers(editor, requests);
+        results.stream()
+                .filter(ProvisionResult::isSuccess)
+                .forEach(result -> playersToDelete.get().add(result.player().id()));
+        return results;
+    }
+
     /**
      * A helper method for positive retrieve player scenarios.
      */
     protected PlayerGetByPlayerIdResponseDto getPlayer(Object playerId) {
         var response = restClient.getPlayer(playerId);
         response.then().statusCode(HttpURLConnection.HTTP_OK);
+        assertMatchesSchema(response, PlayerSchemas.PLAYER);
         return as(response, PlayerGetByPlayerIdResponseDto.class);
     }
 
@@ -86,6 +216,7 @@ public abstract class BaseTest {
     protected PlayerUpdateResponseDto updatePlayer(String editor, Long playerId, PlayerUpdateRequestDto request) {
         var response = restClient.updatePlayer(editor, playerId, request);
         response.then().statusCode(HttpURLConnection.HTTP_OK);
+        assertMatchesSchema(response, PlayerSchemas.UPDATED_PLAYER);
         return as(response, PlayerUpdateResponseDto.class);
     }
 
@@ -98,6 +229,51 @@ public abstract class BaseTest {
         return as(response, PlayerGetAllResponseDto.class);
     }
 
+    /**
+     * Indexed get-all list shared between tests for a short TTL (see {@link PlayerIndexCache}).
+     */
+    protected PlayerIndex getPlayersIndex() {
+        return PlayerIndexCache.getInstance().get(this::getAllPlayers);
+    }
+
+    /**
+     * Looks a player up in the get-all list by id; the shared index is refreshed once if the player is not in it yet.
+     */
+    protected Optional<PlayerItemDto> findInAllPlayers(long playerId) {
+        return PlayerIndexCache.getInstance().findById(playerId, this::getAllPlayers);
+    }
+
+    /**
+     * A helper method for get all players scenarios over large lists: players are parsed one by one from the response stream.
+     * @return number of players in the list
+     */
+    protected long streamAllPlayers(Consumer<PlayerItemDto> consumer) {
+        return asyncRestClient.streamAllPlayers(consumer).join();
+    }
+
+    /**
+     * A helper method for lookups in large get all players lists: the stream reads the response lazily, so a search
+     * can stop early. Must be closed (try-with-resources) to release the connection.
+     */
+    protected Stream<PlayerItemDto> openAllPlayersStream() {
+        return asyncRestClient.openPlayersStream().join();
+    }
+
+    /**
+     * A helper method for schema checks of large get all players lists: players are validated on the response stream, not bound.
+     */
+    protected SchemaReport validateAllPlayers(PlayerSchema schema, int maxReported) {
+        return asyncRestClient.validateAllPlayers(schema, maxReported).join();
+    }
+
+    /**
+     * Assert the raw response body matches the schema (types, enums, bounds), before the fields are compared with the request.
+     */
+    protected void assertMatchesSchema(Response response, PlayerSchema schema) {
+        var report = schema.validatePlayer(response.asByteArray(), MAX_REPORTED_SCHEMA_VIOLATIONS);
+        assertTrue(report.isValid(), report.describe());
+    }
+
     /**
      * Assert all created player fields match the expected values.
      */
@@ -122,9 +298,12 @@ public abstract class BaseTest {
         softAssert.assertEquals(actual.getGenderAsEnum(), expected.gender(), "Player gender should match");
     }
 
+    /**
+     * Logs a step to the console and buffers it for the test's "Steps" attachment in Allure (see {@link AllureStepLog}).
+     */
     protected void log(Logger logger, String message) {
         logger.info(message);
-        Allure.addAttachment(message, "text/plain", "------");
+        AllureStepLog.add(message);
     }
 
     // endregion
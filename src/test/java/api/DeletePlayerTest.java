@@ -81,9 +81,8 @@ public class DeletePlayerTest extends BaseTest {
 
     @Test(description = "Negative: Regular user/admin cannot delete protected admin user", dataProvider = "protectedUserDeleteCases")
     public void cannotDeleteProtectedAdminTest(Role actorRole, Role protectedRole) {
-        log(logger, String.format("Step: Create a %s actor user", actorRole));
-        var actorDetails = TestDataGenerator.getRandomPlayerDetails(actorRole);
-        var actorCreated = createPlayerAndRegister(TestConfig.getSupervisorLogin(), actorDetails);
+        log(logger, String.format("Step: Lease a %s actor user", actorRole));
+        var actorCreated = leaseActor(actorRole);
 
         log(logger, String.format("Step: Create a %s user", protectedRole));
         var protectedDetails = TestDataGenerator.getRandomPlayerDetails(protectedRole);
@@ -112,9 +111,8 @@ public class DeletePlayerTest extends BaseTest {
 
     @Test(description = "Negative: Regular user/admin cannot delete supervisor", dataProvider = "protectedUserDeleteSupervisorCases")
     public void cannotDeleteProtectedSupervisorTest(Role actorRole) {
-        log(logger, String.format("Step: Create a %s actor user", actorRole));
-        var actorDetails = TestDataGenerator.getRandomPlayerDetails(actorRole);
-        var actorCreated = createPlayerAndRegister(TestConfig.getSupervisorLogin(), actorDetails);
+        log(logger, String.format("Step: Lease a %s actor user", actorRole));
+        var actorCreated = leaseActor(actorRole);
 
         log(logger, "Step: Use supervisor id from config");
         Long supervisorId = TestConfig.getSupervisorId();
@@ -151,9 +149,8 @@ public class DeletePlayerTest extends BaseTest {
 
     @Test(description = "Negative: Regular user cannot delete themselves")
     public void userCannotDeleteSelfTest() {
-        log(logger, "Step: Create a user");
-        var userDetails = TestDataGenerator.getRandomPlayerDetails(Role.USER);
-        var userCreated = createPlayerAndRegister(TestConfig.getSupervisorLogin(), userDetails);
+        log(logger, "Step: Lease a user");
+        var userCreated = leaseActor(Role.USER);
 
         log(logger, "Step: Attempt user self-deletion");
         var deleteResponse = restClient.deletePlayer(userCreated.login(), userCreated.id());
@@ -1,23 +1,27 @@
 package api;
 
 import dto.PlayerItemDto;
-import entities.Gender;
 import entities.Role;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
+import utils.PlayerSchemas;
+import utils.ProvisionResult;
 import utils.TestConfig;
 import utils.TestDataGenerator;
 
 import java.net.HttpURLConnection;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.testng.Assert.*;
 
 public class GetAllPlayersTest extends BaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(GetAllPlayersTest.class);
-    private static final int MAX_PLAYERS_VALIDATION_LIMIT = 100;
+    private static final int MAX_REPORTED_VIOLATIONS = 100;
+    private static final int BULK_PLAYERS = 5;
 
     // region Positive Tests
 
@@ -27,17 +31,8 @@ public class GetAllPlayersTest extends BaseTest {
         var playerDetails = TestDataGenerator.getRandomPlayerDetails(Role.USER);
         var playerCreateResponse = createPlayerAndRegister(TestConfig.getSupervisorLogin(), playerDetails);
 
-        log(logger, "Step: Get all players from the system");
-        var allPlayersResponse = getAllPlayers();
-
-        log(logger, "Step: Assert players list is not null and not empty");
-        assertNotNull(allPlayersResponse.players(), "Players list should not be null");
-        assertFalse(allPlayersResponse.players().isEmpty(), "Players list should not be empty");
-
-        log(logger, "Step: Find newly created player in the list");
-        var createdPlayerInList = allPlayersResponse.players().stream()
-                .filter(p -> p.id().equals(playerCreateResponse.id()))
-                .findFirst();
+        log(logger, "Step: Find newly created player in the list of all players");
+        var createdPlayerInList = findInAllPlayers(playerCreateResponse.id());
 
         log(logger, "Step: Assert newly created player is present");
         assertTrue(createdPlayerInList.isPresent(), "Newly created player should be present in the list");
@@ -51,66 +46,75 @@ public class GetAllPlayersTest extends BaseTest {
         assertEquals(playerItem.screenName(), playerDetails.screenName(), "Player screenName should match");
     }
 
+    @Test(description = "Positive: Get all players contains every player of a bulk create")
+    public void getAllPlayersContainsBulkCreatedPlayersTest() {
+        log(logger, "Step: Create %d players in bulk".formatted(BULK_PLAYERS));
+        var requests = IntStream.range(0, BULK_PLAYERS)
+                .mapToObj(i -> TestDataGenerator.getRandomPlayerDetails(Role.USER))
+                .toList();
+        var results = createPlayersAndRegister(TestConfig.getSupervisorLogin(), requests);
+
+        log(logger, "Step: Assert every player was created");
+        for (ProvisionResult result : results) {
+            assertTrue(result.isSuccess(), "Player %d should be created: %s".formatted(result.index(), result.error()));
+        }
+
+        log(logger, "Step: Assert every created player is present in the list with its screenName");
+        var softAssert = new SoftAssert();
+        for (ProvisionResult result : results) {
+            var playerInList = findInAllPlayers(result.player().id());
+            softAssert.assertTrue(playerInList.isPresent(), "Player %d should be present in the list".formatted(result.player().id()));
+            playerInList.ifPresent(player -> softAssert.assertEquals(player.screenName(), result.request().screenName(),
+                    "Player %d screenName should match".formatted(player.id())));
+        }
+        softAssert.assertAll();
+    }
+
+    @Test(description = "Positive: A newly created player is found by reading the list as a lazy stream")
+    public void streamedAllPlayersContainsNewlyCreatedPlayerTest() {
+        log(logger, "Step: Create a new player");
+        var playerDetails = TestDataGenerator.getRandomPlayerDetails(Role.USER);
+        var playerCreateResponse = createPlayerAndRegister(TestConfig.getSupervisorLogin(), playerDetails);
+
+        log(logger, "Step: Search the streamed list of all players, stopping at the newly created player");
+        Optional<PlayerItemDto> createdPlayerInList;
+        try (var players = openAllPlayersStream()) {
+            createdPlayerInList = players.filter(player -> player.id().equals(playerCreateResponse.id())).findFirst();
+        }
+
+        log(logger, "Step: Assert newly created player is present with its screenName");
+        assertTrue(createdPlayerInList.isPresent(), "Newly created player should be present in the streamed list");
+        assertEquals(createdPlayerInList.get().screenName(), playerDetails.screenName(), "Player screenName should match");
+    }
+
     @Test(description = "Sanity: Default system users are present in the list", groups = {"sanity"})
     public void defaultSystemUsersArePresentTest() {
         log(logger, "Step: Get all players from the system");
-        var allPlayersResponse = getAllPlayers();
-
-        log(logger, "Step: Assert players list is not null");
-        assertNotNull(allPlayersResponse.players(), "Players list should not be null");
+        var playersIndex = getPlayersIndex();
 
         log(logger, "Step: Assert supervisor and admin are present with correct roles");
         var softAssert = new SoftAssert();
-        softAssert.assertTrue(allPlayersResponse.players().stream()
-                .anyMatch(p -> p.id().equals(TestConfig.getSupervisorId())),
+        softAssert.assertTrue(playersIndex.containsId(TestConfig.getSupervisorId()),
                 "Supervisor should be present in the list");
-        softAssert.assertTrue(allPlayersResponse.players().stream()
-                .anyMatch(p -> p.id().equals(TestConfig.getAdminId())),
+        softAssert.assertTrue(playersIndex.containsId(TestConfig.getAdminId()),
                 "Admin should be present in the list");
         softAssert.assertAll();
     }
 
     @Test(description = "Positive: All players can be parsed correctly with all fields populated in correct boundaries")
     public void playersSchemaIntegrityInGlobalListTest() {
-        log(logger, "Step: Get all players from the system");
-        var allPlayersResponse = getAllPlayers();
+        log(logger, "Step: Validate all players against the player schema while streaming the list");
+        var report = validateAllPlayers(PlayerSchemas.PLAYER_ITEM, MAX_REPORTED_VIOLATIONS);
 
-        log(logger, "Step: Assert players list is not null and not empty");
-        assertNotNull(allPlayersResponse.players(), "Players list should not be null");
-        assertFalse(allPlayersResponse.players().isEmpty(), "Players list should not be empty");
+        log(logger, "Step: Assert players list is not empty");
+        assertTrue(report.objects() > 0, "Players list should not be empty");
 
-        log(logger, "Step: Validate each player has correct schema and boundaries");
+        log(logger, "Step: Assert %d players have correct schema and boundaries".formatted(report.objects()));
         var softAssert = new SoftAssert();
-        int validatedCount = 0;
-
-        for (PlayerItemDto player : allPlayersResponse.players()) {
-            if (validatedCount++ >= MAX_PLAYERS_VALIDATION_LIMIT) {
-                break;
-            }
-            var playerId = player.id();
-
-            softAssert.assertNotNull(player.id(), String.format("Player %d: ID should not be null", playerId));
-            softAssert.assertNotNull(player.age(), String.format("Player %d: age should not be null", playerId));
-            softAssert.assertNotNull(player.gender(), String.format("Player %d: gender should not be null", playerId));
-            softAssert.assertNotNull(player.screenName(), String.format("Player %d: screenName should not be null", playerId));
-
-            softAssert.assertTrue(player.age() >= TestDataGenerator.MIN_AGE, String.format("Player %d: age %d should be >= %d", playerId, player.age(), TestDataGenerator.MIN_AGE));
-            softAssert.assertTrue(player.age() <= TestDataGenerator.MAX_AGE, String.format("Player %d: age %d should be <= %d", playerId, player.age(), TestDataGenerator.MAX_AGE));
-
-            Gender genderEnum = player.getGenderAsEnum();
-            softAssert.assertNotNull(genderEnum, String.format("Player %d: gender %s should be parseable to MALE or FEMALE enum", playerId, player.gender()));
-            softAssert.assertTrue(
-                    genderEnum == Gender.MALE || genderEnum == Gender.FEMALE,
-                    String.format("Player %d: gender %s should be MALE or FEMALE", playerId, genderEnum)
-            );
-
-            Role roleEnum = player.getRoleAsEnum();
-            softAssert.assertTrue(
-                    roleEnum == Role.SUPERVISOR || roleEnum == Role.ADMIN || roleEnum == Role.USER,
-                    String.format("Player %d: role %s should be SUPERVISOR, ADMIN, or USER", playerId, roleEnum)
-            );
+        for (String violation : report.violations()) {
+            softAssert.fail(violation);
         }
-
+        softAssert.assertEquals(report.invalid(), 0L, report.summary());
         softAssert.assertAll();
     }
 
@@ -79,9 +79,8 @@ public class RetrievePlayerTest extends BaseTest {
      */
     @Test(description = "Negative: Regular user cannot get another user's info")
     public void userCannotGetAnotherUserInfoTest() {
-        log(logger, "Step: Create first user");
-        var firstUserDetails = TestDataGenerator.getRandomPlayerDetails(Role.USER);
-        var firstUserCreated = createPlayerAndRegister(TestConfig.getSupervisorLogin(), firstUserDetails);
+        log(logger, "Step: Lease first user");
+        var firstUserCreated = leaseActor(Role.USER);
 
         log(logger, "Step: Create second user");
         var secondUserDetails = TestDataGenerator.getRandomPlayerDetails(Role.USER);
@@ -42,7 +42,7 @@ public class UpdatePlayerTest extends BaseTest {
         var playerCreateResponse = createPlayerAndRegister(TestConfig.getSupervisorLogin(), playerDetails);
 
         log(logger, String.format("Step: Update one field as %s", editorRole));
-        var randomScreenName = TestDataGenerator.getRandomPlayerDetails().screenName();
+        var randomScreenName = TestDataGenerator.getRandomScreenName();
         var updateRequest = new PlayerUpdateRequestDto(null, null, null, null, null, randomScreenName);
         var updateResponseDto = updatePlayer(editorLogin, playerCreateResponse.id(), updateRequest);
 
@@ -103,7 +103,7 @@ public class UpdatePlayerTest extends BaseTest {
         var userCreated = createPlayerAndRegister(TestConfig.getSupervisorLogin(), userDetails);
 
         log(logger, "Step: Update one field of the user");
-        var randomScreenName = TestDataGenerator.getRandomPlayerDetails().screenName();
+        var randomScreenName = TestDataGenerator.getRandomScreenName();
         var updateRequest = new PlayerUpdateRequestDto(null, null, null, null, null, randomScreenName);
         var updateResponse = updatePlayer(userCreated.login(), userCreated.id(), updateRequest);
 
@@ -190,16 +190,15 @@ public class UpdatePlayerTest extends BaseTest {
 
     @Test(description = "Negative: Regular user cannot update another player's data")
     public void userCannotUpdateAnotherPlayerTest() {
-        log(logger, "Step: Create first user");
-        var firstUserDetails = TestDataGenerator.getRandomPlayerDetails(Role.USER);
-        var firstUserCreated = createPlayerAndRegister(TestConfig.getSupervisorLogin(), firstUserDetails);
+        log(logger, "Step: Lease first user");
+        var firstUserCreated = leaseActor(Role.USER);
 
         log(logger, "Step: Create second user");
         var secondUserDetails = TestDataGenerator.getRandomPlayerDetails(Role.USER);
         var secondUserCreated = createPlayerAndRegister(TestConfig.getSupervisorLogin(), secondUserDetails);
 
         log(logger, "Step: Attempt to update another player's data");
-        var randomScreenName = TestDataGenerator.getRandomPlayerDetails().screenName();
+        var randomScreenName = TestDataGenerator.getRandomScreenName();
         var updateRequest = new PlayerUpdateRequestDto(null, null, null, null, null, randomScreenName);
         var response = restClient.updatePlayer(firstUserCreated.login(), secondUserCreated.id(), updateRequest);
 
@@ -210,7 +209,7 @@ public class UpdatePlayerTest extends BaseTest {
     @Test(description = "Negative: Update player with non-existing ID")
     public void updateNonExistingPlayerIdTest() {
         log(logger, "Step: Attempt to update non-existing player id");
-        var randomScreenName = TestDataGenerator.getRandomPlayerDetails().screenName();
+        var randomScreenName = TestDataGenerator.getRandomScreenName();
         var updateRequest = new PlayerUpdateRequestDto(null, null, null, null, null, randomScreenName);
         var response = restClient.updatePlayer(TestConfig.getSupervisorLogin(), NON_EXISTING_ID, updateRequest);
 
@@ -221,7 +220,7 @@ public class UpdatePlayerTest extends BaseTest {
     @Test(description = "Negative: Update player with null ID")
     public void updateNullPlayerIdTest() {
         log(logger, "Step: Attempt to update with null player id");
-        var randomScreenName = TestDataGenerator.getRandomPlayerDetails().screenName();
+        var randomScreenName = TestDataGenerator.getRandomScreenName();
         var updateRequest = new PlayerUpdateRequestDto(null, null, null, null, null, randomScreenName);
         var response = restClient.updatePlayerWithRawId(TestConfig.getSupervisorLogin(), null, updateRequest);
 
@@ -367,9 +366,8 @@ public class UpdatePlayerTest extends BaseTest {
 
     @Test(description = "Negative: Unprivileged users cannot change their own role", dataProvider = "unprivilegedRolesForRoleChange")
     public void nonPrivilegedUsersCannotChangeOwnRoleTest(Role currentRole, Role targetRole) {
-        log(logger, String.format("Step: Create a %s user", currentRole));
-        var userDetails = TestDataGenerator.getRandomPlayerDetails(currentRole);
-        var userCreated = createPlayerAndRegister(TestConfig.getSupervisorLogin(), userDetails);
+        log(logger, String.format("Step: Lease a %s user", currentRole));
+        var userCreated = leaseActor(currentRole);
 
         log(logger, String.format("Step: Attempt to elevate %s role to %s", currentRole, targetRole));
         var updateRequest = new PlayerUpdateRequestDto(null, null, null, null, targetRole, null);
@@ -0,0 +1,143 @@
+package load;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerUpdateRequestDto;
+import entities.Gender;
+import entities.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.HistoryOperation;
+import utils.LinearizabilityChecker;
+import utils.LinearizabilityResult;
+import utils.OperationHistory;
+import utils.PlayerState;
+import utils.PooledHttpTransport;
+import utils.RestClient;
+import utils.RestClientFactory;
+import utils.StubPlayerServer;
+import utils.TestConfig;
+import utils.TestDataGenerator;
+
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entry point of the linearizability mode: several clients issue gets and updates on a few shared players as fast
+ * as they can, every call is recorded with its invoke and complete time, and after the run {@link LinearizabilityChecker}
+ * searches each player's history for an order consistent with both real time and the responses.
+ * Fails if some player's history has none. Run with {@code ./gradlew linearizabilityTest}.
+ */
+public class LinearizabilityDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinearizabilityDriver.class);
+
+    public static void main(String[] args) throws InterruptedException {
+        int clients = TestConfig.getLinearizabilityClients();
+        int operationsPerClient = TestConfig.getLinearizabilityOperations();
+        double readRatio = TestConfig.getLinearizabilityReadRatio();
+
+        var history = new OperationHistory();
+        var restClient = RestClientFactory.fromConfig(history);
+        Map<Long, PlayerState> initialStates = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < TestConfig.getLinearizabilityPlayers(); i++) {
+                var created = createPlayer(restClient);
+                initialStates.put(created.id(), PlayerState.of(created));
+            }
+            List<Long> playerIds = List.copyOf(initialStates.keySet());
+            logger.info("Starting linearizability run: {} clients x {} operations on players {}, read ratio {}, base url {}",
+                    clients, operationsPerClient, playerIds, readRatio, TestConfig.getBaseUrl());
+
+            var failedCalls = new AtomicInteger();
+            long originNanos = System.nanoTime();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int client = 0; client < clients; client++) {
+                    // both privileged roles may update a USER, so writes come from two editors
+                    String editor = client % 2 == 0 ? TestConfig.getSupervisorLogin() : TestConfig.getAdminLogin();
+                    executor.execute(() -> runClient(restClient, editor, playerIds, operationsPerClient, readRatio, failedCalls));
+                }
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - originNanos);
+
+            List<HistoryOperation> operations = history.operations();
+            long indeterminate = operations.stream().filter(HistoryOperation::isIndeterminate).count();
+            logger.info("Recorded {} operations in {} ms ({} with unknown outcome, {} failed calls, {} rejected with 4xx)",
+                    operations.size(), elapsed.toMillis(), indeterminate, failedCalls.get(), history.rejectedCount());
+
+            long checkStart = System.nanoTime();
+            List<LinearizabilityResult> results = LinearizabilityChecker.check(initialStates, operations, TestConfig.getLinearizabilityMaxSteps());
+            logger.info("Checked {} players in {} ms", results.size(), Duration.ofNanos(System.nanoTime() - checkStart).toMillis());
+
+            long violations = 0;
+            for (LinearizabilityResult result : results) {
+                switch (result.outcome()) {
+                    case LINEARIZABLE -> logger.info(result.format(originNanos));
+                    case UNKNOWN -> logger.warn("{}, raise linearizability.max.steps or lower contention", result.format(originNanos));
+                    case NOT_LINEARIZABLE -> {
+                        violations++;
+                        logger.error(result.format(originNanos));
+                    }
+                }
+            }
+            if (violations > 0) {
+                throw new IllegalStateException("%d of %d player histories are not linearizable".formatted(violations, results.size()));
+            }
+        } finally {
+            for (long playerId : initialStates.keySet()) {
+                try {
+                    restClient.deletePlayer(TestConfig.getSupervisorLogin(), playerId);
+                } catch (Exception e) {
+                    logger.warn("Could not delete player {}: {}", playerId, e.getMessage());
+                }
+            }
+            PooledHttpTransport.shutdownAll();
+            StubPlayerServer.shutdown();
+        }
+    }
+
+    private static PlayerCreateResponseDto createPlayer(RestClient restClient) {
+        var response = restClient.createPlayer(TestConfig.getSupervisorLogin(), TestDataGenerator.getRandomPlayerDetails(Role.USER));
+        if (response.getStatusCode() != HttpURLConnection.HTTP_OK) {
+            throw new IllegalStateException("Could not create a shared player: create returned %d".formatted(response.getStatusCode()));
+        }
+        return RestClient.as(response, PlayerCreateResponseDto.class);
+    }
+
+    private static void runClient(RestClient restClient, String editor, List<Long> playerIds, int operations,
+                                  double readRatio, AtomicInteger failedCalls) {
+        var random = ThreadLocalRandom.current();
+        for (int i = 0; i < operations; i++) {
+            long playerId = playerIds.get(random.nextInt(playerIds.size()));
+            try {
+                if (random.nextDouble() < readRatio) {
+                    restClient.getPlayer(playerId);
+                } else {
+                    restClient.updatePlayer(editor, playerId, randomUpdate(random));
+                }
+            } catch (Exception e) {
+                // already in the history as an operation with unknown outcome;
+                // Exception, not RuntimeException: RestAssured rethrows connection failures as undeclared IOExceptions
+                failedCalls.incrementAndGet();
+                logger.debug("Call on player {} failed: {}", playerId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Mostly fresh screenNames, so most reads identify the write they saw and the search stays shallow;
+     * age and gender come from small domains and exercise partial updates that overwrite each other.
+     */
+    private static PlayerUpdateRequestDto randomUpdate(ThreadLocalRandom random) {
+        String screenName = random.nextInt(4) != 0 ? TestDataGenerator.getRandomScreenName() : null;
+        Integer age = screenName == null || random.nextBoolean()
+                ? random.nextInt(TestDataGenerator.MIN_AGE, TestDataGenerator.MAX_AGE) : null;
+        Gender gender = random.nextBoolean() ? Gender.values()[random.nextInt(Gender.values().length)] : null;
+        return new PlayerUpdateRequestDto(age, gender, null, null, null, screenName);
+    }
+}
@@ -0,0 +1,77 @@
+package load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.AsyncRestClient;
+import utils.DifferentialChecker;
+import utils.PlayerOperationListener;
+import utils.PlayerShadowModel;
+import utils.PooledHttpTransport;
+import utils.RequestFailureLog;
+import utils.RestClientFactory;
+import utils.StubPlayerServer;
+import utils.TestConfig;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Entry point of the load mode: replays the API test scenarios at a constant arrival rate
+ * and prints throughput and latency percentiles per endpoint. Run with {@code ./gradlew loadTest}.
+ */
+public class LoadDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadDriver.class);
+
+    public static void main(String[] args) throws InterruptedException {
+        List<PlayerScenarios.Scenario> scenarios = TestConfig.getLoadScenarios().stream()
+                .map(PlayerScenarios.Scenario::fromValue)
+                .toList();
+        double arrivalsPerSecond = TestConfig.getLoadArrivalsPerSecond();
+        Duration duration = TestConfig.getLoadDuration();
+
+        Duration shadowCheckInterval = TestConfig.getShadowCheckInterval();
+        var shadowModel = shadowCheckInterval.isZero() ? null : new PlayerShadowModel();
+        var restClient = RestClientFactory.fromConfig(shadowModel == null ? PlayerOperationListener.NONE : shadowModel);
+        var stats = new LoadStats();
+        var playerScenarios = new PlayerScenarios(restClient, stats);
+        var scheduler = new OpenModelScheduler(arrivalsPerSecond, TestConfig.getLoadMaxInFlight(), stats);
+
+        logger.info("Starting load: {} scenarios/s for {}, scenarios {}, base url {}",
+                arrivalsPerSecond, duration, scenarios, TestConfig.getBaseUrl());
+        DifferentialChecker checker = shadowModel == null ? null
+                : new DifferentialChecker(shadowModel, RestClientFactory.asyncFromConfig(), TestConfig.getShadowSettleTimeout())
+                .start(shadowCheckInterval);
+        try {
+            Duration elapsed = scheduler.run(duration, (sequence, intendedStart) ->
+                    playerScenarios.run(scenarios.get((int) (sequence % scenarios.size())), intendedStart));
+            logger.info("{}{}", System.lineSeparator(), LoadReport.format(stats, elapsed));
+            var throttleWaits = restClient.getThrottle().getWaitTimes().summary();
+            if (throttleWaits.lines().count() > 1) {
+                logger.info("Time spent waiting for request slots{}{}", System.lineSeparator(), throttleWaits);
+            }
+            if (restClient.getRetryStats().getTotalRetries() > 0) {
+                logger.warn("Requests were retried{}{}", System.lineSeparator(), restClient.getRetryStats().summary());
+            }
+            var failureLog = RequestFailureLog.global();
+            if (failureLog.totalCount() > 0) {
+                var failures = failureLog.snapshot();
+                logger.warn("{} failed request(s), most recent:{}{}", failureLog.totalCount(), System.lineSeparator(),
+                        failures.get(failures.size() - 1));
+            }
+        } finally {
+            try {
+                if (checker != null) {
+                    checker.close();
+                    // background rounds are stopped and nothing is in flight any more, so this round compares every tracked player
+                    checker.check();
+                    logger.info("Shadow model: {}", checker.summary());
+                }
+            } finally {
+                PooledHttpTransport.shutdownAll();
+                AsyncRestClient.shutdownAll();
+                StubPlayerServer.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package load;
+
+import org.HdrHistogram.Histogram;
+import utils.ApiEndpoint;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+
+/**
+ * Human-readable summary of a load run: throughput and latency percentiles per endpoint.
+ */
+public final class LoadReport {
+
+    private static final double MICROS_IN_MILLI = 1000.0;
+
+    private LoadReport() {
+    }
+
+    public static String format(LoadStats stats, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        var report = new StringJoiner(System.lineSeparator());
+
+        report.add("Load run finished in %.1f s: %d scenarios completed, %d failed, %d arrivals dropped"
+                .formatted(seconds, stats.getCompletedScenarios(), stats.getFailedScenarios(), stats.getDroppedArrivals()));
+        report.add("%-8s %10s %8s %10s %10s %10s %10s %10s %10s".formatted(
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms"));
+
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            Histogram histogram = stats.getLatencies(endpoint);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            report.add("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f".formatted(
+                    endpoint,
+                    histogram.getTotalCount(),
+                    stats.getErrors(endpoint),
+                    histogram.getTotalCount() / seconds,
+                    percentile(histogram, 50.0),
+                    percentile(histogram, 95.0),
+                    percentile(histogram, 99.0),
+                    percentile(histogram, 99.9),
+                    histogram.getMaxValue() / MICROS_IN_MILLI));
+        }
+        return report.toString();
+    }
+
+    private static double percentile(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_IN_MILLI;
+    }
+}
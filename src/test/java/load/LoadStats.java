@@ -0,0 +1,72 @@
+package load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import utils.ApiEndpoint;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe latency and error counters of a load run, per endpoint.
+ * Latencies are recorded in microseconds from the intended (scheduled) start, so queueing delay is not hidden.
+ */
+public class LoadStats {
+
+    private final Map<ApiEndpoint, Histogram> latencies = new EnumMap<>(ApiEndpoint.class);
+    private final Map<ApiEndpoint, LongAdder> errors = new EnumMap<>(ApiEndpoint.class);
+    private final LongAdder completedScenarios = new LongAdder();
+    private final LongAdder failedScenarios = new LongAdder();
+    private final LongAdder droppedArrivals = new LongAdder();
+
+    public LoadStats() {
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            latencies.put(endpoint, new ConcurrentHistogram(3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void record(ApiEndpoint endpoint, long latencyNanos, boolean success) {
+        latencies.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    public void scenarioCompleted() {
+        completedScenarios.increment();
+    }
+
+    public void scenarioFailed() {
+        failedScenarios.increment();
+    }
+
+    /**
+     * Arrival that could not start because the in-flight limit was reached.
+     */
+    public void arrivalDropped() {
+        droppedArrivals.increment();
+    }
+
+    public Histogram getLatencies(ApiEndpoint endpoint) {
+        return latencies.get(endpoint);
+    }
+
+    public long getErrors(ApiEndpoint endpoint) {
+        return errors.get(endpoint).sum();
+    }
+
+    public long getCompletedScenarios() {
+        return completedScenarios.sum();
+    }
+
+    public long getFailedScenarios() {
+        return failedScenarios.sum();
+    }
+
+    public long getDroppedArrivals() {
+        return droppedArrivals.sum();
+    }
+}
@@ -0,0 +1,91 @@
+package load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model (constant arrival rate) scheduler: arrivals are started on a fixed timetable,
+ * regardless of how long previous ones take. Each arrival runs on its own virtual thread.
+ * When {@code maxInFlight} arrivals are already running, new ones are dropped and counted instead of delayed,
+ * so a slow server can't silently lower the offered load.
+ */
+public class OpenModelScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenModelScheduler.class);
+
+    private final double arrivalsPerSecond;
+    private final Semaphore inFlight;
+    private final LoadStats stats;
+
+    public OpenModelScheduler(double arrivalsPerSecond, int maxInFlight, LoadStats stats) {
+        if (arrivalsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive, got %s".formatted(arrivalsPerSecond));
+        }
+        this.arrivalsPerSecond = arrivalsPerSecond;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.stats = stats;
+    }
+
+    /**
+     * Runs arrivals for the given duration and waits for the started ones to finish.
+     * @param arrival receives the arrival sequence number and its intended start time ({@link System#nanoTime()} based)
+     * @return wall-clock time of the whole run
+     */
+    public Duration run(Duration duration, Arrival arrival) throws InterruptedException {
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / arrivalsPerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long sequence = 0; ; sequence++) {
+                long intendedStart = start + sequence * periodNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                waitUntil(intendedStart);
+
+                if (!inFlight.tryAcquire()) {
+                    stats.arrivalDropped();
+                    continue;
+                }
+                long currentSequence = sequence;
+                executor.execute(() -> {
+                    try {
+                        arrival.start(currentSequence, intendedStart);
+                        stats.scenarioCompleted();
+                    } catch (Exception | AssertionError e) {
+                        // Exception, not RuntimeException: RestAssured rethrows connection failures as undeclared IOExceptions
+                        stats.scenarioFailed();
+                        logger.debug("Arrival {} failed: {}", currentSequence, e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static void waitUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Load run interrupted");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Arrival {
+        void start(long sequence, long intendedStartNanos);
+    }
+}
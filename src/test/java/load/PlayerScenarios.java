@@ -0,0 +1,162 @@
+package load;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerUpdateRequestDto;
+import entities.Role;
+import io.restassured.response.Response;
+import utils.ApiEndpoint;
+import utils.PlayerSchema;
+import utils.PlayerSchemas;
+import utils.RestClient;
+import utils.SchemaReport;
+import utils.TestConfig;
+import utils.TestDataGenerator;
+
+import java.net.HttpURLConnection;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Player lifecycles from the API tests, replayed as load scenarios.
+ * Every scenario creates its own player and removes it afterwards, the same way BaseTest does for tests.
+ * <p>
+ * Latency of the first request is measured from the scenario's intended start (coordinated omission correction),
+ * each following request from the moment the previous one completed.
+ * Response bodies are checked against {@link PlayerSchemas} on the token stream; a violation counts as a failed request.
+ */
+public class PlayerScenarios {
+
+    private static final int MAX_REPORTED_SCHEMA_VIOLATIONS = 5;
+
+    private final RestClient restClient;
+    private final LoadStats stats;
+
+    public PlayerScenarios(RestClient restClient, LoadStats stats) {
+        this.restClient = restClient;
+        this.stats = stats;
+    }
+
+    public enum Scenario {
+        CREATE,
+        RETRIEVE,
+        UPDATE,
+        DELETE,
+        GET_ALL;
+
+        public static Scenario fromValue(String value) {
+            return Arrays.stream(values())
+                    .filter(s -> s.name().equalsIgnoreCase(value.trim().replace('-', '_')))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Unknown scenario '%s', expected one of %s".formatted(value, Arrays.toString(values()))));
+        }
+    }
+
+    public void run(Scenario scenario, long intendedStartNanos) {
+        switch (scenario) {
+            case CREATE -> create(intendedStartNanos);
+            case RETRIEVE -> retrieve(intendedStartNanos);
+            case UPDATE -> update(intendedStartNanos);
+            case DELETE -> delete(intendedStartNanos);
+            case GET_ALL -> getAll(intendedStartNanos);
+        }
+    }
+
+    /**
+     * CreatePlayerTest: supervisor creates a player.
+     */
+    private void create(long startNanos) {
+        var player = createPlayer(startNanos);
+        cleanup(player.id());
+    }
+
+    /**
+     * RetrievePlayerTest: create a player and read it back by id.
+     */
+    private void retrieve(long startNanos) {
+        var player = createPlayer(startNanos);
+        try {
+            call(ApiEndpoint.GET, System.nanoTime(), HttpURLConnection.HTTP_OK, PlayerSchemas.PLAYER, () -> restClient.getPlayer(player.id()));
+        } finally {
+            cleanup(player.id());
+        }
+    }
+
+    /**
+     * UpdatePlayerTest: create a player, change its screenName and read it back.
+     */
+    private void update(long startNanos) {
+        var player = createPlayer(startNanos);
+        try {
+            var updateRequest = new PlayerUpdateRequestDto(null, null, null, null, null,
+                    TestDataGenerator.getRandomPlayerDetails().screenName());
+            call(ApiEndpoint.UPDATE, System.nanoTime(), HttpURLConnection.HTTP_OK, PlayerSchemas.UPDATED_PLAYER,
+                    () -> restClient.updatePlayer(TestConfig.getSupervisorLogin(), player.id(), updateRequest));
+            call(ApiEndpoint.GET, System.nanoTime(), HttpURLConnection.HTTP_OK, PlayerSchemas.PLAYER, () -> restClient.getPlayer(player.id()));
+        } finally {
+            cleanup(player.id());
+        }
+    }
+
+    /**
+     * DeletePlayerTest: create a player and delete it as supervisor, the deletion itself is the measured step.
+     */
+    private void delete(long startNanos) {
+        var player = createPlayer(startNanos);
+        call(ApiEndpoint.DELETE, System.nanoTime(), HttpURLConnection.HTTP_NO_CONTENT, null,
+                () -> restClient.deletePlayer(TestConfig.getSupervisorLogin(), player.id()));
+    }
+
+    /**
+     * GetAllPlayersTest: read the full player list.
+     */
+    private void getAll(long startNanos) {
+        call(ApiEndpoint.GET_ALL, startNanos, HttpURLConnection.HTTP_OK, PlayerSchemas.PLAYER_ITEM, restClient::getAllPlayers);
+    }
+
+    private PlayerCreateResponseDto createPlayer(long startNanos) {
+        var playerDetails = TestDataGenerator.getRandomPlayerDetails(Role.USER);
+        var response = call(ApiEndpoint.CREATE, startNanos, HttpURLConnection.HTTP_OK, PlayerSchemas.PLAYER,
+                () -> restClient.createPlayer(TestConfig.getSupervisorLogin(), playerDetails));
+        return RestClient.as(response, PlayerCreateResponseDto.class);
+    }
+
+    private void cleanup(long playerId) {
+        call(ApiEndpoint.DELETE, System.nanoTime(), HttpURLConnection.HTTP_NO_CONTENT, null,
+                () -> restClient.deletePlayer(TestConfig.getSupervisorLogin(), playerId));
+    }
+
+    /**
+     * @param schema schema the response body must match, null for responses without a body
+     */
+    private Response call(ApiEndpoint endpoint, long startNanos, int expectedStatus, PlayerSchema schema, Supplier<Response> request) {
+        Response response;
+        try {
+            response = request.get();
+        } catch (Exception e) {
+            // includes connection failures, which RestAssured rethrows as undeclared IOExceptions
+            stats.record(endpoint, System.nanoTime() - startNanos, false);
+            throw e;
+        }
+
+        boolean success = response.getStatusCode() == expectedStatus;
+        // validated on the token stream after the latency is taken, so the check does not count as server time
+        long endNanos = System.nanoTime();
+        SchemaReport schemaReport = success && schema != null ? validate(endpoint, schema, response) : null;
+        stats.record(endpoint, endNanos - startNanos, success && (schemaReport == null || schemaReport.isValid()));
+        if (!success) {
+            throw new IllegalStateException("%s returned %d, expected %d"
+                    .formatted(endpoint, response.getStatusCode(), expectedStatus));
+        }
+        if (schemaReport != null && !schemaReport.isValid()) {
+            throw new IllegalStateException("%s response does not match the schema: %s".formatted(endpoint, schemaReport.describe()));
+        }
+        return response;
+    }
+
+    private static SchemaReport validate(ApiEndpoint endpoint, PlayerSchema schema, Response response) {
+        return endpoint == ApiEndpoint.GET_ALL
+                ? schema.validatePlayers(response.asInputStream(), MAX_REPORTED_SCHEMA_VIOLATIONS)
+                : schema.validatePlayer(response.asByteArray(), MAX_REPORTED_SCHEMA_VIOLATIONS);
+    }
+}
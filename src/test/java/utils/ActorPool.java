@@ -0,0 +1,156 @@
+package utils;
+
+import dto.PlayerCreateResponseDto;
+import entities.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite-scoped pool of pre-created USER and ADMIN players for tests that only need a throwaway actor.
+ * Players are created in the background via {@link AsyncRestClient}; every lease triggers an asynchronous refill,
+ * so the create round-trip is normally off the test's critical path.
+ * <p>
+ * A leased actor belongs to the test from then on and must be registered for cleanup by the caller.
+ * Actors still in the pool when the suite ends are handed to {@link PlayerCleanupService} by {@link #shutdown(Duration)}.
+ */
+public final class ActorPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActorPool.class);
+
+    public static final Set<Role> POOLED_ROLES = Set.of(Role.USER, Role.ADMIN);
+
+    private static volatile ActorPool instance;
+
+    private final AsyncRestClient asyncRestClient;
+    private final String editor;
+    private final int sizePerRole;
+    private final Map<Role, Queue<PooledActor>> available = new EnumMap<>(Role.class);
+    private final Map<Role, AtomicInteger> inFlight = new EnumMap<>(Role.class);
+    private final Set<CompletableFuture<?>> pendingCreates = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopped;
+
+    private ActorPool(AsyncRestClient asyncRestClient, String editor, int sizePerRole) {
+        this.asyncRestClient = asyncRestClient;
+        this.editor = editor;
+        this.sizePerRole = sizePerRole;
+        for (Role role : POOLED_ROLES) {
+            available.put(role, new ConcurrentLinkedQueue<>());
+            inFlight.put(role, new AtomicInteger());
+        }
+        POOLED_ROLES.forEach(this::refill);
+    }
+
+    /**
+     * Pool for the current suite; the first call starts pre-creating actors with settings from {@link TestConfig}.
+     */
+    public static ActorPool getInstance() {
+        ActorPool current = instance;
+        if (current == null) {
+            synchronized (ActorPool.class) {
+                current = instance;
+                if (current == null) {
+                    current = new ActorPool(RestClientFactory.asyncFromConfig(), TestConfig.getSupervisorLogin(),
+                            TestConfig.getActorPoolSize());
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Takes a ready actor of the given role without waiting.
+     * @return empty if the pool has none ready (or does not pool this role); the caller should create the player itself
+     */
+    public Optional<PooledActor> lease(Role role) {
+        Queue<PooledActor> queue = available.get(role);
+        if (queue == null) {
+            return Optional.empty();
+        }
+        PooledActor actor = queue.poll();
+        refill(role);
+        return Optional.ofNullable(actor);
+    }
+
+    /**
+     * Stops refilling, waits for creations in progress and schedules all unleased actors for deletion.
+     */
+    public static void shutdown(Duration timeout) throws InterruptedException {
+        ActorPool current;
+        synchronized (ActorPool.class) {
+            current = instance;
+            instance = null;
+        }
+        if (current != null) {
+            current.stop(timeout);
+        }
+    }
+
+    private void stop(Duration timeout) throws InterruptedException {
+        stopped = true;
+        try {
+            CompletableFuture.allOf(pendingCreates.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // failed creations are already logged, nothing to clean up for them
+        } catch (TimeoutException e) {
+            logger.warn("{} actor creation(s) still running after {}", pendingCreates.size(), timeout);
+        }
+        var cleanupService = PlayerCleanupService.getInstance();
+        available.values().forEach(queue -> {
+            PooledActor actor;
+            while ((actor = queue.poll()) != null) {
+                cleanupService.schedule(actor.id());
+            }
+        });
+    }
+
+    private void refill(Role role) {
+        AtomicInteger creating = inFlight.get(role);
+        while (!stopped && available.get(role).size() + creating.get() < sizePerRole) {
+            creating.incrementAndGet();
+            create(role);
+        }
+    }
+
+    private void create(Role role) {
+        // refills run on test threads too; the seeded per-test sequence must not depend on pool timing
+        var details = TestDataGenerator.getUnseededPlayerDetails(role);
+        CompletableFuture<?> future = asyncRestClient.createPlayer(editor, details)
+                .thenAccept(response -> {
+                    if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+                        logger.warn("Could not pre-create {} actor {}: status {}", role, details.login(), response.statusCode());
+                        return;
+                    }
+                    var actor = new PooledActor(details, asyncRestClient.as(response, PlayerCreateResponseDto.class));
+                    available.get(role).add(actor);
+                    // shutdown may have drained the queue already; make sure the player does not leak
+                    if (stopped && available.get(role).remove(actor)) {
+                        PlayerCleanupService.getInstance().schedule(actor.id());
+                    }
+                })
+                .whenComplete((ignored, error) -> {
+                    inFlight.get(role).decrementAndGet();
+                    if (error != null) {
+                        logger.warn("Could not pre-create {} actor {}", role, details.login(), error);
+                    }
+                });
+        pendingCreates.add(future);
+        future.whenComplete((ignored, error) -> pendingCreates.remove(future));
+    }
+}
@@ -0,0 +1,69 @@
+package utils;
+
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Buffers step logs per thread and attaches them as one "Steps" attachment per test or fixture.
+ * The attachment is registered on the calling thread (so it lands on the right test), while the file itself
+ * is written by a single background thread, in flush order, off the test thread.
+ */
+public final class AllureStepLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(AllureStepLog.class);
+
+    public static final String ATTACHMENT_NAME = "Steps";
+
+    private static final ThreadLocal<StringBuilder> steps = ThreadLocal.withInitial(StringBuilder::new);
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "allure-step-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private AllureStepLog() {
+    }
+
+    public static void add(String message) {
+        steps.get().append(LocalTime.now().truncatedTo(ChronoUnit.MILLIS)).append("  ").append(message).append(System.lineSeparator());
+    }
+
+    /**
+     * Attaches the current thread's buffered steps to the running Allure test or fixture and empties the buffer.
+     */
+    public static void flush() {
+        StringBuilder buffer = steps.get();
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] content = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        buffer.setLength(0);
+
+        var lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(ATTACHMENT_NAME, "text/plain", ".txt");
+        writer.execute(() -> lifecycle.writeAttachment(source, new ByteArrayInputStream(content)));
+    }
+
+    /**
+     * Waits until all attachments flushed so far are written to disk.
+     */
+    public static void awaitWrites(Duration timeout) throws InterruptedException {
+        try {
+            writer.submit(() -> { }).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Step log attachments were not written within {}", timeout, e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package utils;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Flushes the steps logged by a test method into its Allure result while the test case is still open.
+ * Configuration methods flush their own steps, see {@link AllureStepLog#flush()}.
+ */
+public class AllureStepLogListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            AllureStepLog.flush();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package utils;
+
+import dto.PlayerUpdateRequestDto;
+import entities.Gender;
+import entities.Role;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * {@link LinearizabilityChecker} on hand-built histories; times are in nanoseconds from 0.
+ */
+public class LinearizabilityCheckerTest {
+
+    private static final long PLAYER_ID = 1;
+    private static final long MAX_STEPS = 100_000;
+    private static final PlayerState INITIAL = state("initial");
+
+    @Test(description = "A read after a completed write that returns the old value is a violation")
+    public void staleReadAfterCompletedWriteTest() {
+        var write = update(1, "written", 0, 10);
+        var staleRead = get(2, "initial", 20, 30);
+
+        var result = check(write, staleRead);
+
+        assertEquals(result.outcome(), LinearizabilityResult.Outcome.NOT_LINEARIZABLE);
+        assertEquals(result.longestPrefix(), List.of(write), "Only the write should be linearizable");
+        assertEquals(result.blockedBy(), staleRead, "The stale read should be the operation that fits nowhere");
+    }
+
+    @Test(description = "A read concurrent with a write may return the old value")
+    public void readConcurrentWithWriteTest() {
+        var result = check(update(1, "written", 0, 25), get(2, "initial", 20, 30), get(3, "written", 31, 40));
+
+        assertEquals(result.outcome(), LinearizabilityResult.Outcome.LINEARIZABLE);
+    }
+
+    @Test(description = "Overlapping writes may take effect in either order")
+    public void overlappingWritesInEitherOrderTest() {
+        var first = update(1, "first", 0, 20);
+        var second = update(2, "second", 5, 25);
+
+        assertEquals(check(first, second, get(3, "first", 30, 40)).outcome(), LinearizabilityResult.Outcome.LINEARIZABLE,
+                "second applied before first");
+        assertEquals(check(first, second, get(3, "second", 30, 40)).outcome(), LinearizabilityResult.Outcome.LINEARIZABLE,
+                "first applied before second");
+    }
+
+    @Test(description = "Reads may not observe overlapping writes in two different orders")
+    public void overlappingWritesSeenInContradictoryOrderTest() {
+        var result = check(update(1, "first", 0, 20), update(2, "second", 5, 25),
+                get(3, "first", 30, 40), get(4, "second", 50, 60));
+
+        assertEquals(result.outcome(), LinearizabilityResult.Outcome.NOT_LINEARIZABLE);
+    }
+
+    @Test(description = "An update with an unknown outcome may be observed after its invocation")
+    public void indeterminateUpdateObservedLaterTest() {
+        var result = check(indeterminateUpdate(1, "maybe", 0), get(2, "initial", 10, 20), get(3, "maybe", 30, 40));
+
+        assertEquals(result.outcome(), LinearizabilityResult.Outcome.LINEARIZABLE);
+    }
+
+    @Test(description = "An update with an unknown outcome may never take effect")
+    public void indeterminateUpdateNeverObservedTest() {
+        var result = check(indeterminateUpdate(1, "maybe", 0), get(2, "initial", 10, 20), get(3, "initial", 30, 40));
+
+        assertEquals(result.outcome(), LinearizabilityResult.Outcome.LINEARIZABLE);
+    }
+
+    @Test(description = "Once an update with an unknown outcome has been observed, it cannot be undone")
+    public void indeterminateUpdateObservedThenLostTest() {
+        var result = check(indeterminateUpdate(1, "maybe", 0), get(2, "maybe", 10, 20), get(3, "initial", 30, 40));
+
+        assertEquals(result.outcome(), LinearizabilityResult.Outcome.NOT_LINEARIZABLE);
+    }
+
+    @Test(description = "Partial updates only replace the fields they carry")
+    public void partialUpdateKeepsOtherFieldsTest() {
+        var ageOnly = new PlayerUpdateRequestDto(30, null, null, null, null, null);
+        var expected = new PlayerState(30, Gender.MALE, Role.USER, "initial");
+        var result = check(new HistoryOperation(1, PLAYER_ID, ageOnly, expected, 0, 10),
+                new HistoryOperation(2, PLAYER_ID, null, expected, 20, 30));
+
+        assertEquals(result.outcome(), LinearizabilityResult.Outcome.LINEARIZABLE);
+    }
+
+    @Test(description = "Every player is checked separately, a violation on one does not affect the other")
+    public void playersAreCheckedSeparatelyTest() {
+        var otherPlayer = new HistoryOperation(3, 2, null, INITIAL, 0, 10);
+        var results = LinearizabilityChecker.check(Map.of(PLAYER_ID, INITIAL, 2L, INITIAL),
+                List.of(update(1, "written", 0, 10), get(2, "initial", 20, 30), otherPlayer), MAX_STEPS);
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).outcome(), LinearizabilityResult.Outcome.NOT_LINEARIZABLE);
+        assertEquals(results.get(1).outcome(), LinearizabilityResult.Outcome.LINEARIZABLE);
+        assertNull(results.get(1).blockedBy());
+    }
+
+    @Test(description = "The search gives up as unknown when the step budget runs out")
+    public void stepBudgetExhaustedTest() {
+        var result = LinearizabilityChecker.check(PLAYER_ID, INITIAL,
+                List.of(update(1, "first", 0, 20), update(2, "second", 5, 25), get(3, "second", 30, 40)), 2);
+
+        assertEquals(result.outcome(), LinearizabilityResult.Outcome.UNKNOWN);
+    }
+
+    private static LinearizabilityResult check(HistoryOperation... history) {
+        return LinearizabilityChecker.check(PLAYER_ID, INITIAL, List.of(history), MAX_STEPS);
+    }
+
+    private static PlayerState state(String screenName) {
+        return new PlayerState(20, Gender.MALE, Role.USER, screenName);
+    }
+
+    private static HistoryOperation update(long id, String screenName, long invokeNanos, long completeNanos) {
+        return new HistoryOperation(id, PLAYER_ID, rename(screenName), state(screenName), invokeNanos, completeNanos);
+    }
+
+    private static HistoryOperation indeterminateUpdate(long id, String screenName, long invokeNanos) {
+        return new HistoryOperation(id, PLAYER_ID, rename(screenName), null, invokeNanos, Long.MAX_VALUE);
+    }
+
+    private static HistoryOperation get(long id, String screenName, long invokeNanos, long completeNanos) {
+        return new HistoryOperation(id, PLAYER_ID, null, state(screenName), invokeNanos, completeNanos);
+    }
+
+    private static PlayerUpdateRequestDto rename(String screenName) {
+        return new PlayerUpdateRequestDto(null, null, null, null, null, screenName);
+    }
+}
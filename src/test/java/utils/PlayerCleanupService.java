@@ -0,0 +1,201 @@
+package utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Suite-scoped background deletion of players created by tests.
+ * Tests only enqueue ids; worker threads delete them in parallel batches, retrying failures with jittered exponential backoff.
+ * {@link #awaitCompletion(Duration)} is the barrier that makes sure everything is gone before the suite ends.
+ * <p>
+ * A 404 counts as deleted: the test may have removed the player itself.
+ */
+public final class PlayerCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerCleanupService.class);
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration BASE_BACKOFF = Duration.ofMillis(200);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private static volatile PlayerCleanupService instance;
+
+    private final RestClient restClient;
+    private final String editor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final BlockingQueue<CleanupTask> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final AtomicLong pending = new AtomicLong();
+    private final Set<Long> failedIds = ConcurrentHashMap.newKeySet();
+    // scheduled and not yet deleted or given up on: queued, in a worker's batch or waiting for a retry
+    private final Set<Long> outstandingIds = ConcurrentHashMap.newKeySet();
+    private final Object completionMonitor = new Object();
+    private volatile boolean running = true;
+
+    private PlayerCleanupService(RestClient restClient, String editor, int workerCount, int batchSize, int maxAttempts) {
+        this.restClient = restClient;
+        this.editor = editor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.workers = Executors.newFixedThreadPool(workerCount, daemonThreads("player-cleanup-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("player-cleanup-retry-"));
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::workLoop);
+        }
+    }
+
+    /**
+     * Service for the current suite, started on first use with settings from {@link TestConfig}.
+     */
+    public static PlayerCleanupService getInstance() {
+        PlayerCleanupService current = instance;
+        if (current == null) {
+            synchronized (PlayerCleanupService.class) {
+                current = instance;
+                if (current == null) {
+                    current = new PlayerCleanupService(RestClientFactory.fromConfig(), TestConfig.getSupervisorLogin(),
+                            TestConfig.getCleanupWorkers(), TestConfig.getCleanupBatchSize(), TestConfig.getCleanupMaxAttempts());
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Queues a player for deletion and returns immediately.
+     */
+    public void schedule(long playerId) {
+        if (!running) {
+            throw new IllegalStateException("Cleanup service is already stopped, cannot remove player %d".formatted(playerId));
+        }
+        pending.incrementAndGet();
+        outstandingIds.add(playerId);
+        queue.add(new CleanupTask(playerId, 1));
+    }
+
+    /**
+     * Waits until every scheduled player is deleted (or gave up after all retries), then stops the workers.
+     * @return ids that could not be deleted; empty if cleanup is complete
+     */
+    public static List<Long> awaitCompletion(Duration timeout) throws InterruptedException {
+        PlayerCleanupService current;
+        synchronized (PlayerCleanupService.class) {
+            current = instance;
+            instance = null;
+        }
+        return current == null ? List.of() : current.drainAndStop(timeout);
+    }
+
+    private List<Long> drainAndStop(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (completionMonitor) {
+            long remaining;
+            while (pending.get() > 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(completionMonitor, remaining);
+            }
+        }
+        running = false;
+        workers.shutdownNow();
+        retryScheduler.shutdownNow();
+
+        // on timeout this includes ids still queued, drained into a batch or waiting for a retry
+        Set<Long> notDeleted = new TreeSet<>(failedIds);
+        notDeleted.addAll(outstandingIds);
+        return List.copyOf(notDeleted);
+    }
+
+    private void workLoop() {
+        List<CleanupTask> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                CleanupTask first = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::delete);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void delete(CleanupTask task) {
+        String failure;
+        try {
+            int status = restClient.deletePlayer(editor, task.playerId()).getStatusCode();
+            if (status == HttpURLConnection.HTTP_NO_CONTENT || status == HttpURLConnection.HTTP_NOT_FOUND) {
+                logger.debug("Removed player with id {}", task.playerId());
+                complete(task.playerId());
+                return;
+            }
+            failure = "status " + status;
+        } catch (Exception e) {
+            // RestAssured rethrows connection failures as undeclared IOExceptions; letting one escape would end the worker
+            failure = e.toString();
+        }
+
+        if (task.attempt() >= maxAttempts || !running) {
+            logger.error("Could not remove player with id {} after {} attempts: {}", task.playerId(), task.attempt(), failure);
+            failedIds.add(task.playerId());
+            complete(task.playerId());
+            return;
+        }
+        long delay = backoffMillis(task.attempt());
+        logger.warn("Removing player with id {} failed ({}), retry in {} ms", task.playerId(), failure, delay);
+        retryScheduler.schedule(() -> queue.add(new CleanupTask(task.playerId(), task.attempt() + 1)), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void complete(long playerId) {
+        outstandingIds.remove(playerId);
+        if (pending.decrementAndGet() == 0) {
+            synchronized (completionMonitor) {
+                completionMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Exponential backoff with full jitter: random delay in [0, min(max, base * 2^(attempt-1))].
+     */
+    private static long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF.toMillis(), BASE_BACKOFF.toMillis() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record CleanupTask(long playerId, int attempt) {
+    }
+}
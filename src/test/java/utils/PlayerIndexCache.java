@@ -0,0 +1,86 @@
+package utils;
+
+import dto.PlayerGetAllResponseDto;
+import dto.PlayerItemDto;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Suite-wide cache of the get-all index, so tests running close to each other share one /player/get/all call.
+ * A lookup that misses the cached index refreshes it once, because the player may have been created after the fetch started.
+ */
+public final class PlayerIndexCache {
+
+    private static final PlayerIndexCache INSTANCE = new PlayerIndexCache(TestConfig.getPlayersIndexTtl());
+
+    private final long ttlNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedIndex cached;
+
+    private PlayerIndexCache(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public static PlayerIndexCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached index if its fetch started less than the TTL ago, otherwise fetches a new one.
+     */
+    public PlayerIndex get(Supplier<PlayerGetAllResponseDto> fetch) {
+        long now = System.nanoTime();
+        CachedIndex current = cached;
+        if (current != null && current.startedAfter(now - ttlNanos)) {
+            return current.index();
+        }
+        return refresh(fetch, now - ttlNanos);
+    }
+
+    /**
+     * Finds a player by id; on a miss, looks again in an index whose fetch started after the miss, because the player
+     * may have been created while the missed index was being fetched.
+     */
+    public Optional<PlayerItemDto> findById(long id, Supplier<PlayerGetAllResponseDto> fetch) {
+        Optional<PlayerItemDto> player = get(fetch).findById(id);
+        if (player.isPresent()) {
+            return player;
+        }
+        return refresh(fetch, System.nanoTime()).findById(id);
+    }
+
+    /**
+     * Only one thread fetches; threads that waited for it reuse its result if that fetch started late enough.
+     * @param startedAfterNanos {@link System#nanoTime()} that the fetch of a reused index must have started after
+     */
+    private PlayerIndex refresh(Supplier<PlayerGetAllResponseDto> fetch, long startedAfterNanos) {
+        // a lock, not synchronized: on Java 21 a virtual thread blocking in a monitor pins its carrier for the whole fetch
+        refreshLock.lock();
+        try {
+            CachedIndex current = cached;
+            if (current != null && current.startedAfter(startedAfterNanos)) {
+                return current.index();
+            }
+            long startedAtNanos = System.nanoTime();
+            var index = PlayerIndex.of(fetch.get());
+            cached = new CachedIndex(index, startedAtNanos);
+            return index;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * @param fetchStartedNanos {@link System#nanoTime()} before the get-all request: the index holds every player
+     *                          created before it
+     */
+    private record CachedIndex(PlayerIndex index, long fetchStartedNanos) {
+
+        boolean startedAfter(long nanos) {
+            return fetchStartedNanos - nanos > 0;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package utils;
+
+import entities.Gender;
+import entities.Role;
+
+/**
+ * Schemas of the player API responses, with the bounds the tests create players with (see {@link TestDataGenerator}).
+ */
+public final class PlayerSchemas {
+
+    /**
+     * Item of the /player/get/all list.
+     */
+    public static final PlayerSchema PLAYER_ITEM = PlayerSchema.builder()
+            .integer("id", 0, Long.MAX_VALUE)
+            .integer("age", TestDataGenerator.MIN_AGE, TestDataGenerator.MAX_AGE)
+            .oneOf("gender", Gender.class)
+            .oneOf("role", Role.class)
+            .string("screenName", 1, Integer.MAX_VALUE)
+            .build();
+
+    /**
+     * Create and get-by-id responses: the item fields plus login and password.
+     */
+    public static final PlayerSchema PLAYER = PlayerSchema.builder()
+            .integer("id", 0, Long.MAX_VALUE)
+            .integer("age", TestDataGenerator.MIN_AGE, TestDataGenerator.MAX_AGE)
+            .oneOf("gender", Gender.class)
+            .oneOf("role", Role.class)
+            .string("screenName", 1, Integer.MAX_VALUE)
+            .string("login", 1, Integer.MAX_VALUE)
+            .password("password", TestDataGenerator.MIN_PASSWORD_LENGTH, TestDataGenerator.MAX_PASSWORD_LENGTH)
+            .build();
+
+    /**
+     * Update response: the item fields plus login; the password is never returned.
+     */
+    public static final PlayerSchema UPDATED_PLAYER = PlayerSchema.builder()
+            .integer("id", 0, Long.MAX_VALUE)
+            .integer("age", TestDataGenerator.MIN_AGE, TestDataGenerator.MAX_AGE)
+            .oneOf("gender", Gender.class)
+            .oneOf("role", Role.class)
+            .string("screenName", 1, Integer.MAX_VALUE)
+            .string("login", 1, Integer.MAX_VALUE)
+            .build();
+
+    private PlayerSchemas() {
+    }
+}
@@ -0,0 +1,18 @@
+package utils;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerDetailsDto;
+
+/**
+ * A player created ahead of time by {@link ActorPool}, together with the details it was created from.
+ */
+public record PooledActor(PlayerDetailsDto details, PlayerCreateResponseDto player) {
+
+    public long id() {
+        return player.id();
+    }
+
+    public String login() {
+        return player.login();
+    }
+}
@@ -0,0 +1,37 @@
+package utils;
+
+import io.qameta.allure.Allure;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.util.stream.Collectors;
+
+/**
+ * Attaches the last requests made by a failed test to its Allure result.
+ * Runs on the test thread right around the test method, so it sees that thread's {@link RecentExchanges}
+ * and the Allure test case is still open.
+ */
+public class RecentExchangesListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            RecentExchanges.global().clear();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE) {
+            return;
+        }
+        var exchanges = RecentExchanges.global().recent();
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        Allure.addAttachment("Last %d request(s)".formatted(exchanges.size()), "text/plain", exchanges.stream()
+                .map(RecordedExchange::format)
+                .collect(Collectors.joining(System.lineSeparator() + System.lineSeparator())));
+    }
+}
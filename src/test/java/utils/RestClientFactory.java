@@ -0,0 +1,37 @@
+package utils;
+
+/**
+ * Builds clients configured from {@link TestConfig}, so tests, cleanup and the load driver talk to the API the same way.
+ */
+public final class RestClientFactory {
+
+    private RestClientFactory() {
+    }
+
+    public static RestClient fromConfig() {
+        return fromConfig(PlayerOperationListener.NONE);
+    }
+
+    /**
+     * Same as {@link #fromConfig()}, reporting every call to {@code operationListener}.
+     */
+    public static RestClient fromConfig(PlayerOperationListener operationListener) {
+        var builder = RestClient.builder(TestConfig.getBaseUrl())
+                .operationListener(operationListener)
+                .logging(TestConfig.getLoggingProfile())
+                .sampleEvery(TestConfig.getLoggingSampleEvery())
+                .throttle(RequestThrottle.shared(TestConfig.getEndpointLimits()))
+                .retryPolicy(TestConfig.getRetryPolicy());
+        if (TestConfig.isHttpPoolEnabled()) {
+            builder.connectionPool(TestConfig.getConnectionPoolConfig());
+        }
+        return builder.build();
+    }
+
+    /**
+     * The run's shared {@link AsyncRestClient} for the configured base url; released by {@link AsyncRestClient#shutdownAll()}.
+     */
+    public static AsyncRestClient asyncFromConfig() {
+        return AsyncRestClient.shared(TestConfig.getBaseUrl());
+    }
+}
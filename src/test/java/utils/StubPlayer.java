@@ -0,0 +1,42 @@
+package utils;
+
+import dto.PlayerCreateResponseDto;
+import dto.PlayerGetByPlayerIdResponseDto;
+import dto.PlayerItemDto;
+import dto.PlayerUpdateResponseDto;
+import entities.Gender;
+import entities.Role;
+
+/**
+ * Immutable player row of {@link StubPlayerStore}; updates replace the whole row.
+ */
+public record StubPlayer(
+        long id,
+        String login,
+        String password,
+        String screenName,
+        Gender gender,
+        int age,
+        Role role
+) {
+
+    public StubPlayer withId(long newId) {
+        return new StubPlayer(newId, login, password, screenName, gender, age, role);
+    }
+
+    public PlayerCreateResponseDto toCreateResponse() {
+        return new PlayerCreateResponseDto(age, gender.getValue(), id, login, password, role.getValue(), screenName);
+    }
+
+    public PlayerGetByPlayerIdResponseDto toGetResponse() {
+        return new PlayerGetByPlayerIdResponseDto(age, gender.getValue(), id, login, password, role.getValue(), screenName);
+    }
+
+    public PlayerUpdateResponseDto toUpdateResponse() {
+        return new PlayerUpdateResponseDto(age, gender.getValue(), id, login, role.getValue(), screenName);
+    }
+
+    public PlayerItemDto toItem() {
+        return new PlayerItemDto(age, gender.getValue(), id, role.getValue(), screenName);
+    }
+}
@@ -0,0 +1,446 @@
+package utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dto.PlayerGetAllResponseDto;
+import entities.Gender;
+import entities.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Embedded implementation of the player API for offline runs ({@code stub.enabled=true}).
+ * Follows the rules from the README: age 17–59, password 7–15 characters with a digit, male/female gender,
+ * unique login and screenName, only supervisor/admin create players, nobody creates or deletes a supervisor,
+ * only the supervisor, the default admin or the admin itself deletes an admin, users may update only themselves,
+ * and only the supervisor changes its own role.
+ * Latency and 503 errors can be injected to exercise client-side retries and throttling.
+ * <p>
+ * Get and get/all requests carry no editor, so they are not authorized. Tests expecting 403 on reads fail against the stub.
+ */
+public final class StubPlayerServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubPlayerServer.class);
+
+    private static final int INJECTED_ERROR_STATUS = HttpURLConnection.HTTP_UNAVAILABLE;
+
+    private static volatile StubPlayerServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final StubPlayerStore store;
+    private final StubServerConfig config;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private StubPlayerServer(StubServerConfig config, StubPlayerStore store) {
+        this.config = config;
+        this.store = store;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", config.port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start stub player server on port " + config.port(), e);
+        }
+        server.createContext("/player/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts a server over the given store; the caller owns it and closes it.
+     */
+    public static StubPlayerServer start(StubServerConfig config, StubPlayerStore store) {
+        var stub = new StubPlayerServer(config, store);
+        stub.server.start();
+        logger.info("Stub player server started at {} with {}", stub.getBaseUrl(), config);
+        return stub;
+    }
+
+    /**
+     * Suite-wide server configured from {@link TestConfig} and seeded with the default supervisor and admin; started on first use.
+     */
+    public static StubPlayerServer getInstance() {
+        if (instance == null) {
+            synchronized (StubPlayerServer.class) {
+                if (instance == null) {
+                    var store = new StubPlayerStore();
+                    store.seed(new StubPlayer(TestConfig.getSupervisorId(), TestConfig.getSupervisorLogin(), "supervisor1",
+                            TestConfig.getSupervisorLogin(), Gender.MALE, 40, Role.SUPERVISOR));
+                    store.seed(new StubPlayer(TestConfig.getAdminId(), TestConfig.getAdminLogin(), "admin1",
+                            TestConfig.getAdminLogin(), Gender.FEMALE, 30, Role.ADMIN));
+                    instance = start(TestConfig.getStubServerConfig(), store);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the suite-wide server if it was started.
+     */
+    public static void shutdown() {
+        synchronized (StubPlayerServer.class) {
+            if (instance != null) {
+                instance.close();
+                instance = null;
+            }
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    /**
+     * Errors are sent without a body, like the real API does; the reason is logged at debug level.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            if (injectFaults()) {
+                send(exchange, INJECTED_ERROR_STATUS, null);
+                return;
+            }
+            StubResponse response;
+            try {
+                response = route(exchange, requestBody);
+            } catch (RequestRejectedException e) {
+                response = reject(exchange, e.status, e);
+            } catch (IllegalArgumentException | JacksonException e) {
+                response = reject(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e);
+            } catch (RuntimeException e) {
+                logger.error("Stub failed on {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                response = new StubResponse(HttpURLConnection.HTTP_INTERNAL_ERROR, null);
+            }
+            send(exchange, response.status(), response.body());
+        }
+    }
+
+    private static StubResponse reject(HttpExchange exchange, int status, RuntimeException reason) {
+        logger.debug("Stub rejected {} {} with {}: {}", exchange.getRequestMethod(), exchange.getRequestURI(), status, reason.getMessage());
+        return new StubResponse(status, null);
+    }
+
+    /**
+     * Sleeps for the configured latency and decides whether this request fails with an injected error.
+     */
+    private boolean injectFaults() {
+        long delayNanos = config.latency().toNanos();
+        if (!config.latencyJitter().isZero()) {
+            delayNanos += ThreadLocalRandom.current().nextLong(config.latencyJitter().toNanos() + 1);
+        }
+        if (delayNanos > 0) {
+            try {
+                Thread.sleep(delayNanos / 1_000_000, (int) (delayNanos % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return config.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < config.errorRate();
+    }
+
+    private StubResponse route(HttpExchange exchange, byte[] requestBody) {
+        String method = exchange.getRequestMethod();
+        String[] segments = exchange.getRequestURI().getPath().substring("/player/".length()).split("/");
+
+        return switch (segments[0]) {
+            case "create" -> {
+                requireShape(method, "GET", segments, 2);
+                yield create(segments[1], parseQuery(exchange.getRequestURI().getRawQuery()));
+            }
+            case "get" -> {
+                if (segments.length == 2 && segments[1].equals("all")) {
+                    requireShape(method, "GET", segments, 2);
+                    yield getAll();
+                }
+                requireShape(method, "POST", segments, 1);
+                yield get(readObject(requestBody));
+            }
+            case "update" -> {
+                requireShape(method, "PATCH", segments, 3);
+                yield update(segments[1], Long.parseLong(segments[2]), readObject(requestBody));
+            }
+            case "delete" -> {
+                requireShape(method, "DELETE", segments, 2);
+                yield delete(segments[1], readObject(requestBody));
+            }
+            default -> throw new RequestRejectedException(HttpURLConnection.HTTP_NOT_FOUND, "Unknown path " + exchange.getRequestURI().getPath());
+        };
+    }
+
+    private StubResponse create(String editorLogin, Map<String, String> params) {
+        StubPlayer editor = editor(editorLogin);
+        if (editor.role() == Role.USER) {
+            throw forbidden("Role %s cannot create players".formatted(editor.role()));
+        }
+        Role role = parseRole(required(params, "role"));
+        if (role == Role.SUPERVISOR) {
+            throw forbidden("Supervisor accounts cannot be created");
+        }
+        var draft = new StubPlayer(0,
+                requiredNonBlank(params, "login"),
+                validPassword(required(params, "password")),
+                requiredNonBlank(params, "screenName"),
+                Gender.fromValue(required(params, "gender")),
+                validAge(Integer.parseInt(required(params, "age"))),
+                role);
+        return ok(store.create(draft).toCreateResponse());
+    }
+
+    private StubResponse get(JsonNode body) {
+        long id = playerId(body);
+        return store.get(id)
+                .map(player -> ok(player.toGetResponse()))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private StubResponse getAll() {
+        return ok(new PlayerGetAllResponseDto(store.all().stream().map(StubPlayer::toItem).toList()));
+    }
+
+    /**
+     * PATCH semantics: the checks and the change are applied to one version of the row, which is then swapped in with
+     * {@link StubPlayerStore#compareAndSet}; if another request changed the row in between, everything is redone.
+     */
+    private StubResponse update(String editorLogin, long id, JsonNode body) {
+        StubPlayer editor = editor(editorLogin);
+        if (body.has("login")) {
+            throw new IllegalArgumentException("login cannot be changed");
+        }
+        Integer age = body.has("age") ? validAge(integer(body.get("age"), "age")) : null;
+        Gender gender = body.has("gender") ? Gender.fromValue(string(body.get("gender"), "gender")) : null;
+        String password = body.has("password") ? validPassword(string(body.get("password"), "password")) : null;
+        String screenName = body.has("screenName") ? nonBlank(string(body.get("screenName"), "screenName"), "screenName") : null;
+        Role role = body.has("role") ? parseRole(string(body.get("role"), "role")) : null;
+
+        while (true) {
+            StubPlayer target = store.get(id).orElseThrow(() -> notFound(id));
+            authorizeUpdate(editor, target, role);
+            var updated = new StubPlayer(id, target.login(),
+                    password != null ? password : target.password(),
+                    screenName != null ? screenName : target.screenName(),
+                    gender != null ? gender : target.gender(),
+                    age != null ? age : target.age(),
+                    role != null ? role : target.role());
+            if (store.compareAndSet(target, updated)) {
+                return ok(updated.toUpdateResponse());
+            }
+        }
+    }
+
+    private static void authorizeUpdate(StubPlayer editor, StubPlayer target, Role newRole) {
+        boolean self = editor.id() == target.id();
+        if (!self && (editor.role() == Role.USER || target.role() == Role.SUPERVISOR)) {
+            throw forbidden("Role %s cannot update player %d".formatted(editor.role(), target.id()));
+        }
+        if (newRole != null && newRole != target.role()) {
+            if (self && editor.role() != Role.SUPERVISOR) {
+                throw forbidden("Role %s cannot change its own role".formatted(editor.role()));
+            }
+            if (newRole == Role.SUPERVISOR || target.role() == Role.SUPERVISOR) {
+                throw forbidden("Supervisor role cannot be assigned or revoked");
+            }
+        }
+    }
+
+    private StubResponse delete(String editorLogin, JsonNode body) {
+        StubPlayer editor = editor(editorLogin);
+        long id = playerId(body);
+        StubPlayer target = store.get(id).orElseThrow(() -> notFound(id));
+        boolean allowed = switch (target.role()) {
+            case SUPERVISOR -> false;
+            case ADMIN -> mayDeleteAdmin(editor, target);
+            case USER -> editor.role() != Role.USER;
+        };
+        if (!allowed) {
+            throw forbidden("Role %s cannot delete player %d with role %s".formatted(editor.role(), id, target.role()));
+        }
+        if (!store.delete(id)) {
+            throw notFound(id);
+        }
+        return new StubResponse(HttpURLConnection.HTTP_NO_CONTENT, null);
+    }
+
+    /**
+     * Admins are protected: only the supervisor, the default admin and the admin itself may delete one.
+     */
+    private static boolean mayDeleteAdmin(StubPlayer editor, StubPlayer target) {
+        return editor.role() == Role.SUPERVISOR || editor.id() == target.id()
+                || (editor.role() == Role.ADMIN && editor.id() == TestConfig.getAdminId());
+    }
+
+    private StubPlayer editor(String login) {
+        return store.findByLogin(login)
+                .orElseThrow(() -> forbidden("Unknown editor '%s'".formatted(login)));
+    }
+
+    private static long playerId(JsonNode body) {
+        JsonNode playerId = body.get("playerId");
+        if (playerId == null || playerId.isNull()) {
+            throw new IllegalArgumentException("playerId is required");
+        }
+        if (playerId.isIntegralNumber()) {
+            return playerId.longValue();
+        }
+        return Long.parseLong(string(playerId, "playerId"));
+    }
+
+    private static int integer(JsonNode node, String field) {
+        if (!node.isIntegralNumber() || !node.canConvertToInt()) {
+            throw new IllegalArgumentException("%s should be an integer, got %s".formatted(field, node));
+        }
+        return node.intValue();
+    }
+
+    private static String string(JsonNode node, String field) {
+        if (!node.isString()) {
+            throw new IllegalArgumentException("%s should be a string, got %s".formatted(field, node));
+        }
+        return node.stringValue();
+    }
+
+    private static int validAge(int age) {
+        if (age < TestDataGenerator.MIN_AGE || age > TestDataGenerator.MAX_AGE) {
+            throw new IllegalArgumentException("age should be within [%d, %d], got %d".formatted(TestDataGenerator.MIN_AGE, TestDataGenerator.MAX_AGE, age));
+        }
+        return age;
+    }
+
+    private static String validPassword(String password) {
+        if (password.length() < TestDataGenerator.MIN_PASSWORD_LENGTH || password.length() > TestDataGenerator.MAX_PASSWORD_LENGTH) {
+            throw new IllegalArgumentException("password should be %d to %d characters long".formatted(TestDataGenerator.MIN_PASSWORD_LENGTH, TestDataGenerator.MAX_PASSWORD_LENGTH));
+        }
+        if (password.chars().noneMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("password should contain a digit");
+        }
+        return password;
+    }
+
+    private static Role parseRole(String value) {
+        for (Role role : Role.values()) {
+            if (role.getValue().equalsIgnoreCase(value)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected role value: '%s'".formatted(value));
+    }
+
+    private static String required(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return value;
+    }
+
+    private static String requiredNonBlank(Map<String, String> params, String name) {
+        return nonBlank(required(params, name), name);
+    }
+
+    private static String nonBlank(String value, String name) {
+        if (value.isBlank()) {
+            throw new IllegalArgumentException(name + " should not be blank");
+        }
+        return value;
+    }
+
+    /**
+     * A bare parameter name (sent for null values) maps to null, i.e. the parameter counts as missing.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq < 0) {
+                params.put(decode(pair), null);
+            } else {
+                params.put(decode(pair.substring(0, eq)), decode(pair.substring(eq + 1)));
+            }
+        }
+        return params;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private JsonNode readObject(byte[] body) {
+        if (body.length == 0) {
+            return mapper.createObjectNode();
+        }
+        JsonNode node = mapper.readTree(body);
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Request body should be a JSON object");
+        }
+        return node;
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void requireShape(String method, String expectedMethod, String[] segments, int expectedSegments) {
+        if (segments.length != expectedSegments) {
+            throw new RequestRejectedException(HttpURLConnection.HTTP_NOT_FOUND, "Unknown path /player/" + String.join("/", segments));
+        }
+        if (!method.equals(expectedMethod)) {
+            throw new RequestRejectedException(HttpURLConnection.HTTP_BAD_METHOD, "Expected %s, got %s".formatted(expectedMethod, method));
+        }
+    }
+
+    private static StubResponse ok(Object body) {
+        return new StubResponse(HttpURLConnection.HTTP_OK, body);
+    }
+
+    private static RequestRejectedException forbidden(String message) {
+        return new RequestRejectedException(HttpURLConnection.HTTP_FORBIDDEN, message);
+    }
+
+    private static RequestRejectedException notFound(long id) {
+        return new RequestRejectedException(HttpURLConnection.HTTP_NOT_FOUND, "Player %d not found".formatted(id));
+    }
+
+    private record StubResponse(int status, Object body) {
+    }
+
+    private static final class RequestRejectedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        RequestRejectedException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe in-memory player table behind {@link StubPlayerServer}.
+ * <ul>
+ *     <li>Rows are spread over lock stripes by id; each stripe is an open-addressing table on primitive long keys.
+ *     Lookups by id are optimistic (no lock, no write to shared memory) and fall back to a read lock only on a race.</li>
+ *     <li>Login and screenName are unique: the value is reserved in a concurrent index before the row becomes visible
+ *     and released after the row is gone, so two creates or renames can never both win.</li>
+ *     <li>Rows are immutable; {@link #compareAndSet} replaces a row only if it is still the one the caller read.</li>
+ *     <li>{@link #all()} holds every stripe's read lock while copying, so it sees a single point in time.</li>
+ * </ul>
+ */
+public class StubPlayerStore {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final int STRIPE_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(STRIPE_COUNT);
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final ConcurrentMap<String, Long> idsByLogin = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> idsByScreenName = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    public StubPlayerStore() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Adds a player with a fixed id, e.g. the default supervisor and admin accounts.
+     * @throws IllegalArgumentException if the id, login or screenName is already taken
+     */
+    public void seed(StubPlayer player) {
+        reserve(player.id(), player.login(), player.screenName());
+        if (!stripe(player.id()).putIfAbsent(player)) {
+            release(player);
+            throw new IllegalArgumentException("id %d is already taken".formatted(player.id()));
+        }
+        nextId.accumulateAndGet(player.id() + 1, Math::max);
+    }
+
+    /**
+     * Stores the player under a new id, ignoring {@code draft.id()}.
+     * @throws IllegalArgumentException if the login or screenName is already taken
+     */
+    public StubPlayer create(StubPlayer draft) {
+        long id = nextId.getAndIncrement();
+        reserve(id, draft.login(), draft.screenName());
+        StubPlayer player = draft.withId(id);
+        stripe(id).putIfAbsent(player);
+        return player;
+    }
+
+    public Optional<StubPlayer> get(long id) {
+        return Optional.ofNullable(stripe(id).get(id));
+    }
+
+    public Optional<StubPlayer> findByLogin(String login) {
+        Long id = idsByLogin.get(login);
+        return id == null ? Optional.empty() : get(id);
+    }
+
+    /**
+     * Replaces {@code expected} with {@code updated} if the row has not changed since it was read (compared by identity).
+     * Login and id cannot change.
+     * @return false if the row was changed or deleted concurrently
+     * @throws IllegalArgumentException if the new screenName is already taken
+     */
+    public boolean compareAndSet(StubPlayer expected, StubPlayer updated) {
+        if (updated.id() != expected.id() || !updated.login().equals(expected.login())) {
+            throw new IllegalArgumentException("id and login cannot be changed, expected %d/%s, got %d/%s"
+                    .formatted(expected.id(), expected.login(), updated.id(), updated.login()));
+        }
+        long id = expected.id();
+        boolean renamed = !updated.screenName().equals(expected.screenName());
+        if (renamed) {
+            Long holder = idsByScreenName.putIfAbsent(updated.screenName(), id);
+            if (holder != null) {
+                // held by this player: a concurrent update already renamed it, so expected is stale
+                if (holder == id) {
+                    return false;
+                }
+                throw new IllegalArgumentException("screenName '%s' is already taken".formatted(updated.screenName()));
+            }
+        }
+        boolean replaced = stripe(id).replace(expected, updated);
+        if (renamed) {
+            // the losing name is released either way: the old one on success, the reserved one on a lost race
+            idsByScreenName.remove(replaced ? expected.screenName() : updated.screenName(), id);
+        }
+        return replaced;
+    }
+
+    /**
+     * @return false if there is no player with this id
+     */
+    public boolean delete(long id) {
+        StubPlayer removed = stripe(id).remove(id);
+        if (removed == null) {
+            return false;
+        }
+        release(removed);
+        return true;
+    }
+
+    /**
+     * Consistent copy of all players ordered by id: every stripe is read-locked before the first row is copied,
+     * so the result reflects one moment even while writes continue.
+     */
+    public List<StubPlayer> all() {
+        long[] stamps = new long[STRIPE_COUNT];
+        List<StubPlayer> players = new ArrayList<>(size());
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stamps[i] = stripes[i].lock.readLock();
+        }
+        try {
+            for (Stripe stripe : stripes) {
+                stripe.copyTo(players);
+            }
+        } finally {
+            for (int i = STRIPE_COUNT - 1; i >= 0; i--) {
+                stripes[i].lock.unlockRead(stamps[i]);
+            }
+        }
+        players.sort(Comparator.comparingLong(StubPlayer::id));
+        return players;
+    }
+
+    /**
+     * Number of players; approximate while writes are in progress.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    private Stripe stripe(long id) {
+        return stripes[(int) (mix(id) >>> STRIPE_SHIFT)];
+    }
+
+    private void reserve(long id, String login, String screenName) {
+        if (idsByLogin.putIfAbsent(login, id) != null) {
+            throw new IllegalArgumentException("login '%s' is already taken".formatted(login));
+        }
+        if (idsByScreenName.putIfAbsent(screenName, id) != null) {
+            idsByLogin.remove(login, id);
+            throw new IllegalArgumentException("screenName '%s' is already taken".formatted(screenName));
+        }
+    }
+
+    private void release(StubPlayer player) {
+        idsByLogin.remove(player.login(), player.id());
+        idsByScreenName.remove(player.screenName(), player.id());
+    }
+
+    /**
+     * murmur3 finalizer: the high bits pick the stripe, the low bits the slot inside it.
+     */
+    static long mix(long id) {
+        long hash = id;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * One lock stripe: linear-probing table of ids and rows, resized and modified under the write lock.
+     * Readers validate an optimistic stamp, so a concurrent move or resize is retried under the read lock.
+     */
+    private static final class Stripe {
+        private static final int INITIAL_CAPACITY = 16;
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table = new Table(INITIAL_CAPACITY);
+        private volatile int size;
+
+        StubPlayer get(long id) {
+            long stamp = lock.tryOptimisticRead();
+            StubPlayer player = table.find(id);
+            if (lock.validate(stamp)) {
+                return player;
+            }
+            stamp = lock.readLock();
+            try {
+                return table.find(id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        boolean putIfAbsent(StubPlayer player) {
+            long stamp = lock.writeLock();
+            try {
+                if (table.find(player.id()) != null) {
+                    return false;
+                }
+                if (size + 1 > table.keys.length / 2) {
+                    table = table.resized(table.keys.length * 2);
+                }
+                table.insert(player);
+                size++;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean replace(StubPlayer expected, StubPlayer updated) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = table.slotOf(expected.id());
+                if (slot < 0 || table.rows[slot] != expected) {
+                    return false;
+                }
+                table.rows[slot] = updated;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        StubPlayer remove(long id) {
+            long stamp = lock.writeLock();
+            try {
+                StubPlayer removed = table.delete(id);
+                if (removed != null) {
+                    size--;
+                }
+                return removed;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Caller holds the read lock.
+         */
+        void copyTo(List<StubPlayer> target) {
+            for (StubPlayer row : table.rows) {
+                if (row != null) {
+                    target.add(row);
+                }
+            }
+        }
+
+        private static final class Table {
+            final long[] keys;
+            final StubPlayer[] rows;
+            final int mask;
+
+            Table(int capacity) {
+                keys = new long[capacity];
+                Arrays.fill(keys, EMPTY);
+                rows = new StubPlayer[capacity];
+                mask = capacity - 1;
+            }
+
+            /**
+             * Bounded by the capacity, so a torn optimistic read cannot loop forever; the caller validates the result.
+             */
+            StubPlayer find(long id) {
+                int slot = slotOf(id);
+                return slot < 0 ? null : rows[slot];
+            }
+
+            int slotOf(long id) {
+                int slot = (int) mix(id) & mask;
+                for (int probes = 0; probes <= mask; probes++) {
+                    long key = keys[slot];
+                    if (key == id) {
+                        return slot;
+                    }
+                    if (key == EMPTY) {
+                        return -1;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                return -1;
+            }
+
+            void insert(StubPlayer player) {
+                int slot = (int) mix(player.id()) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                rows[slot] = player;
+                keys[slot] = player.id();
+            }
+
+            /**
+             * Backward-shift deletion: later entries of the probe chain move into the hole, so no tombstones are needed.
+             */
+            StubPlayer delete(long id) {
+                int hole = slotOf(id);
+                if (hole < 0) {
+                    return null;
+                }
+                StubPlayer removed = rows[hole];
+                int slot = hole;
+                while (true) {
+                    slot = (slot + 1) & mask;
+                    long key = keys[slot];
+                    if (key == EMPTY) {
+                        break;
+                    }
+                    int home = (int) mix(key) & mask;
+                    // move the entry back if its home slot is not in the cyclic range (hole, slot]
+                    if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                        keys[hole] = key;
+                        rows[hole] = rows[slot];
+                        hole = slot;
+                    }
+                }
+                keys[hole] = EMPTY;
+                rows[hole] = null;
+                return removed;
+            }
+
+            Table resized(int capacity) {
+                Table resized = new Table(capacity);
+                for (StubPlayer row : rows) {
+                    if (row != null) {
+                        resized.insert(row);
+                    }
+                }
+                return resized;
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package utils;
+
+import entities.Gender;
+import entities.Role;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * {@link StubPlayerStore} table mechanics: backward-shift deletion, resizing and screenName reservation.
+ */
+public class StubPlayerStoreTest {
+
+    private static final int STRIPE_SHIFT = 58;
+    private static final int INITIAL_SLOT_MASK = 15;
+
+    @Test(description = "Deleting the head of a probe chain that wraps around the table keeps the rest of the chain reachable")
+    public void deleteShiftsWrappedProbeChainBackTest() {
+        // ids in one stripe whose home is the last slot, so the chain continues at slots 0 and 1
+        List<Long> chain = idsWithHome(INITIAL_SLOT_MASK, 3);
+        long neighbour = idsWithHome(0, 1).get(0);
+        var store = new StubPlayerStore();
+        chain.forEach(id -> store.seed(player(id)));
+        store.seed(player(neighbour));
+
+        assertTrue(store.delete(chain.get(0)));
+
+        assertFalse(store.get(chain.get(0)).isPresent(), "Deleted player should be gone");
+        for (long id : List.of(chain.get(1), chain.get(2), neighbour)) {
+            assertEquals(store.get(id).map(StubPlayer::id).orElse(null), id, "Player %d should survive the shift".formatted(id));
+        }
+
+        assertTrue(store.delete(chain.get(1)));
+        assertTrue(store.delete(neighbour));
+        assertEquals(store.get(chain.get(2)).map(StubPlayer::id).orElse(null), chain.get(2));
+        assertEquals(store.size(), 1);
+    }
+
+    @Test(description = "Deleting from the middle of a probe chain keeps entries that sit at their home slot in place")
+    public void deleteKeepsEntriesAtTheirHomeTest() {
+        List<Long> first = idsWithHome(3, 2);
+        long atHome = idsWithHome(5, 1).get(0);
+        var store = new StubPlayerStore();
+        // slots 3, 4 for the first home, 5 for the second
+        first.forEach(id -> store.seed(player(id)));
+        store.seed(player(atHome));
+
+        assertTrue(store.delete(first.get(0)));
+        assertFalse(store.delete(first.get(0)), "Second delete should find nothing");
+
+        assertEquals(store.get(first.get(1)).map(StubPlayer::id).orElse(null), first.get(1));
+        assertEquals(store.get(atHome).map(StubPlayer::id).orElse(null), atHome);
+    }
+
+    @Test(description = "Rows stay reachable across resizes, and random churn matches a plain map")
+    public void resizeAndChurnMatchModelTest() {
+        var store = new StubPlayerStore();
+        Map<Long, StubPlayer> model = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            StubPlayer created = store.create(player(0, "p" + i));
+            model.put(created.id(), created);
+        }
+        assertEquals(store.size(), model.size());
+        model.forEach((id, player) -> assertEquals(store.get(id).orElse(null), player, "Player %d lost by a resize".formatted(id)));
+
+        var random = new Random(7);
+        List<Long> ids = new ArrayList<>(model.keySet());
+        for (int i = 0; i < 20_000; i++) {
+            if (random.nextBoolean() && !ids.isEmpty()) {
+                long id = ids.remove(random.nextInt(ids.size()));
+                assertTrue(store.delete(id), "Player %d should be deletable".formatted(id));
+                model.remove(id);
+            } else {
+                StubPlayer created = store.create(player(0, "q" + i));
+                model.put(created.id(), created);
+                ids.add(created.id());
+            }
+        }
+
+        assertEquals(store.size(), model.size());
+        assertEquals(store.all(), model.values().stream().sorted((a, b) -> Long.compare(a.id(), b.id())).toList());
+        for (long id = 1; id < 25_000; id++) {
+            assertEquals(store.get(id).orElse(null), model.get(id), "Player %d".formatted(id));
+        }
+    }
+
+    @Test(description = "Deleted logins and screenNames can be reused")
+    public void deleteReleasesUniqueValuesTest() {
+        var store = new StubPlayerStore();
+        StubPlayer first = store.create(player(0, "name"));
+
+        assertThrows(IllegalArgumentException.class, () -> store.create(player(0, "name")));
+        assertTrue(store.delete(first.id()));
+
+        StubPlayer second = store.create(player(0, "name"));
+        assertEquals(store.findByLogin("login_name").map(StubPlayer::id).orElse(null), second.id());
+    }
+
+    @Test(description = "A stale rename to the name this player already took is a lost race, not a conflict")
+    public void staleRenameToOwnNameLosesTest() {
+        var store = new StubPlayerStore();
+        StubPlayer original = store.create(player(0, "before"));
+        StubPlayer renamed = rename(original, "after");
+        assertTrue(store.compareAndSet(original, renamed));
+
+        assertFalse(store.compareAndSet(original, rename(original, "after")), "Stale expected row should lose the race");
+        assertEquals(store.get(original.id()).orElse(null), renamed);
+
+        StubPlayer other = store.create(player(0, "other"));
+        assertThrows(IllegalArgumentException.class, () -> store.compareAndSet(other, rename(other, "after")));
+        assertTrue(store.compareAndSet(other, rename(other, "before")), "The released old name should be free");
+    }
+
+    /**
+     * Ids that land in the same stripe (that of id 1) with the given home slot in a table of the initial capacity.
+     */
+    private static List<Long> idsWithHome(int slot, int count) {
+        long stripe = StubPlayerStore.mix(1) >>> STRIPE_SHIFT;
+        List<Long> ids = new ArrayList<>();
+        for (long id = 2; ids.size() < count; id++) {
+            long hash = StubPlayerStore.mix(id);
+            if (hash >>> STRIPE_SHIFT == stripe && ((int) hash & INITIAL_SLOT_MASK) == slot) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static StubPlayer player(long id) {
+        return player(id, "seeded" + id);
+    }
+
+    private static StubPlayer player(long id, String name) {
+        return new StubPlayer(id, "login_" + name, "password1", name, Gender.MALE, 30, Role.USER);
+    }
+
+    private static StubPlayer rename(StubPlayer player, String screenName) {
+        return new StubPlayer(player.id(), player.login(), player.password(), screenName, player.gender(), player.age(), player.role());
+    }
+}
@@ -0,0 +1,25 @@
+package utils;
+
+import java.time.Duration;
+
+/**
+ * Settings of the embedded {@link StubPlayerServer}.
+ * @param port port to listen on; 0 picks a free port
+ * @param latency delay added to every response
+ * @param latencyJitter upper bound of a random delay added on top of {@code latency}
+ * @param errorRate share of requests (0..1) answered with 503 before they are processed
+ */
+public record StubServerConfig(
+        int port,
+        Duration latency,
+        Duration latencyJitter,
+        double errorRate
+) {
+
+    public StubServerConfig {
+        if (port < 0 || latency.isNegative() || latencyJitter.isNegative() || errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Invalid stub server settings: port=%d, latency=%s, latencyJitter=%s, errorRate=%s"
+                    .formatted(port, latency, latencyJitter, errorRate));
+        }
+    }
+}
@@ -2,7 +2,17 @@ package utils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Properties;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class TestConfig {
     private static final Properties PROPERTIES = new Properties();
@@ -14,7 +24,48 @@ public class TestConfig {
         SUPERVISOR_LOGIN("supervisor.login"),
         SUPERVISOR_ID("supervisor.id"),
         ADMIN_LOGIN("admin.login"),
-        ADMIN_ID("admin.id");
+        ADMIN_ID("admin.id"),
+        HTTP_POOL_ENABLED("http.pool.enabled"),
+        HTTP_POOL_MAX_TOTAL("http.pool.max.total"),
+        HTTP_POOL_MAX_PER_ROUTE("http.pool.max.per.route"),
+        HTTP_POOL_IDLE_TIMEOUT_SECONDS("http.pool.idle.timeout.seconds"),
+        VIRTUAL_THREADS_ENABLED("virtual.threads.enabled"),
+        VIRTUAL_THREADS_MAX_CONCURRENCY("virtual.threads.max.concurrency"),
+        LOAD_SCENARIOS("load.scenarios"),
+        LOAD_ARRIVALS_PER_SECOND("load.arrivals.per.second"),
+        LOAD_DURATION_SECONDS("load.duration.seconds"),
+        LOAD_MAX_IN_FLIGHT("load.max.in.flight"),
+        LATENCY_EXPECTED_INTERVAL_MILLIS("latency.expected.interval.millis"),
+        LATENCY_LOG_DIR("latency.log.dir"),
+        PLAYERS_INDEX_TTL_MILLIS("players.index.ttl.millis"),
+        BULK_MAX_IN_FLIGHT("bulk.max.in.flight"),
+        CLEANUP_WORKERS("cleanup.workers"),
+        CLEANUP_BATCH_SIZE("cleanup.batch.size"),
+        CLEANUP_MAX_ATTEMPTS("cleanup.max.attempts"),
+        CLEANUP_TIMEOUT_SECONDS("cleanup.timeout.seconds"),
+        ACTOR_POOL_SIZE("actor.pool.size"),
+        DATA_SEED("data.seed"),
+        LOGGING_PROFILE("logging.profile"),
+        LOGGING_SAMPLE_EVERY("logging.sample.every"),
+        THROTTLE_PER_SECOND("throttle.per.second"),
+        THROTTLE_BURST("throttle.burst"),
+        THROTTLE_MAX_IN_FLIGHT("throttle.max.in.flight"),
+        RETRY_MAX_ATTEMPTS("retry.max.attempts"),
+        RETRY_BASE_DELAY_MILLIS("retry.base.delay.millis"),
+        RETRY_MAX_DELAY_MILLIS("retry.max.delay.millis"),
+        RETRY_STATUSES("retry.statuses"),
+        STUB_ENABLED("stub.enabled"),
+        STUB_PORT("stub.port"),
+        STUB_LATENCY_MILLIS("stub.latency.millis"),
+        STUB_LATENCY_JITTER_MILLIS("stub.latency.jitter.millis"),
+        STUB_ERROR_RATE("stub.error.rate"),
+        SHADOW_CHECK_INTERVAL_SECONDS("shadow.check.interval.seconds"),
+        SHADOW_SETTLE_TIMEOUT_SECONDS("shadow.settle.timeout.seconds"),
+        LINEARIZABILITY_PLAYERS("linearizability.players"),
+        LINEARIZABILITY_CLIENTS("linearizability.clients"),
+        LINEARIZABILITY_OPERATIONS("linearizability.operations"),
+        LINEARIZABILITY_READ_RATIO("linearizability.read.ratio"),
+        LINEARIZABILITY_MAX_STEPS("linearizability.max.steps");
 
         private final String key;
 
@@ -38,7 +89,13 @@ public class TestConfig {
         }
     }
 
+    /**
+     * With {@link #isStubEnabled()}, the url of the embedded stub server (started on first call).
+     */
     public static String getBaseUrl() {
+        if (isStubEnabled()) {
+            return StubPlayerServer.getInstance().getBaseUrl();
+        }
         String baseUrl = System.getenv(BASE_URL_ENV_VAR_KEY);
         if (baseUrl != null && !baseUrl.isEmpty()) {
             return baseUrl;
@@ -61,4 +118,259 @@ public class TestConfig {
     public static Long getAdminId() {
         return Long.parseLong(PROPERTIES.getProperty(ConfigKey.ADMIN_ID.getKey()));
     }
+
+    public static boolean isHttpPoolEnabled() {
+        return Boolean.parseBoolean(getProperty(ConfigKey.HTTP_POOL_ENABLED, "false"));
+    }
+
+    /**
+     * Settings of the shared keep-alive pool used by RestClient when {@link #isHttpPoolEnabled()} is true.
+     */
+    public static ConnectionPoolConfig getConnectionPoolConfig() {
+        return new ConnectionPoolConfig(
+                Integer.parseInt(getProperty(ConfigKey.HTTP_POOL_MAX_TOTAL, "200")),
+                Integer.parseInt(getProperty(ConfigKey.HTTP_POOL_MAX_PER_ROUTE, "200")),
+                Duration.ofSeconds(Long.parseLong(getProperty(ConfigKey.HTTP_POOL_IDLE_TIMEOUT_SECONDS, "30")))
+        );
+    }
+
+    public static boolean isVirtualThreadsEnabled() {
+        return Boolean.parseBoolean(getProperty(ConfigKey.VIRTUAL_THREADS_ENABLED, "false"));
+    }
+
+    /**
+     * Max number of test methods running at once in virtual-thread mode (replaces suite thread-count).
+     */
+    public static int getVirtualThreadsMaxConcurrency() {
+        return Integer.parseInt(getProperty(ConfigKey.VIRTUAL_THREADS_MAX_CONCURRENCY, "256"));
+    }
+
+    /**
+     * Scenarios replayed by the load driver in round-robin order (create, retrieve, update, delete, get_all).
+     */
+    public static List<String> getLoadScenarios() {
+        return Arrays.stream(getProperty(ConfigKey.LOAD_SCENARIOS, "create,retrieve,update,delete").split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Constant arrival rate of the load driver; each arrival is one full scenario (several requests).
+     */
+    public static double getLoadArrivalsPerSecond() {
+        return Double.parseDouble(getProperty(ConfigKey.LOAD_ARRIVALS_PER_SECOND, "10"));
+    }
+
+    public static Duration getLoadDuration() {
+        return Duration.ofSeconds(Long.parseLong(getProperty(ConfigKey.LOAD_DURATION_SECONDS, "60")));
+    }
+
+    public static int getLoadMaxInFlight() {
+        return Integer.parseInt(getProperty(ConfigKey.LOAD_MAX_IN_FLIGHT, "1000"));
+    }
+
+    /**
+     * Expected time between requests of one test thread for coordinated omission correction, zero disables correction.
+     */
+    public static Duration getLatencyExpectedInterval() {
+        return Duration.ofMillis(Long.parseLong(getProperty(ConfigKey.LATENCY_EXPECTED_INTERVAL_MILLIS, "0")));
+    }
+
+    /**
+     * Directory for HdrHistogram latency logs written at suite end.
+     */
+    public static Path getLatencyLogDir() {
+        return Path.of(getProperty(ConfigKey.LATENCY_LOG_DIR, "build/latency"));
+    }
+
+    /**
+     * How long a fetched get-all index is reused by tests before /player/get/all is called again.
+     */
+    public static Duration getPlayersIndexTtl() {
+        return Duration.ofMillis(Long.parseLong(getProperty(ConfigKey.PLAYERS_INDEX_TTL_MILLIS, "5000")));
+    }
+
+    /**
+     * Max concurrent create requests when players are provisioned in bulk.
+     */
+    public static int getBulkMaxInFlight() {
+        return Integer.parseInt(getProperty(ConfigKey.BULK_MAX_IN_FLIGHT, "32"));
+    }
+
+    /**
+     * Number of background threads deleting players created by tests.
+     */
+    public static int getCleanupWorkers() {
+        return Integer.parseInt(getProperty(ConfigKey.CLEANUP_WORKERS, "4"));
+    }
+
+    public static int getCleanupBatchSize() {
+        return Integer.parseInt(getProperty(ConfigKey.CLEANUP_BATCH_SIZE, "16"));
+    }
+
+    public static int getCleanupMaxAttempts() {
+        return Integer.parseInt(getProperty(ConfigKey.CLEANUP_MAX_ATTEMPTS, "5"));
+    }
+
+    /**
+     * How long the suite waits at the end for pending deletions.
+     */
+    public static Duration getCleanupTimeout() {
+        return Duration.ofSeconds(Long.parseLong(getProperty(ConfigKey.CLEANUP_TIMEOUT_SECONDS, "120")));
+    }
+
+    /**
+     * Number of pre-created actors kept ready per pooled role; 0 disables pre-creation.
+     */
+    public static int getActorPoolSize() {
+        return Integer.parseInt(getProperty(ConfigKey.ACTOR_POOL_SIZE, "4"));
+    }
+
+    /**
+     * Suite seed for test data; when set, every test generates the same data on each run. Empty means random data.
+     */
+    public static OptionalLong getDataSeed() {
+        String seed = getProperty(ConfigKey.DATA_SEED, "");
+        return seed.isBlank() ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(seed.trim()));
+    }
+
+    /**
+     * Request logging of {@link RestClient}: FULL, FAILURES_ONLY, SAMPLED or OFF.
+     */
+    public static LoggingProfile getLoggingProfile() {
+        return LoggingProfile.valueOf(getProperty(ConfigKey.LOGGING_PROFILE, "FULL").trim().toUpperCase());
+    }
+
+    /**
+     * With the SAMPLED profile, one request in this many is logged in full.
+     */
+    public static int getLoggingSampleEvery() {
+        return Integer.parseInt(getProperty(ConfigKey.LOGGING_SAMPLE_EVERY, "100"));
+    }
+
+    /**
+     * Client-side request limits per endpoint, from {@code throttle.per.second} and {@code throttle.max.in.flight}
+     * (comma-separated {@code endpoint:value} pairs, e.g. {@code create:20,get_all:2}) and a common {@code throttle.burst}.
+     * Endpoints listed in neither property are not throttled.
+     */
+    public static Map<ApiEndpoint, EndpointLimit> getEndpointLimits() {
+        Map<ApiEndpoint, Double> rates = parseEndpointValues(ConfigKey.THROTTLE_PER_SECOND, Double::parseDouble);
+        Map<ApiEndpoint, Integer> maxInFlight = parseEndpointValues(ConfigKey.THROTTLE_MAX_IN_FLIGHT, Integer::parseInt);
+        int burst = Integer.parseInt(getProperty(ConfigKey.THROTTLE_BURST, "1"));
+
+        Map<ApiEndpoint, EndpointLimit> limits = new EnumMap<>(ApiEndpoint.class);
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            if (rates.containsKey(endpoint) || maxInFlight.containsKey(endpoint)) {
+                limits.put(endpoint, new EndpointLimit(rates.getOrDefault(endpoint, 0.0), burst, maxInFlight.getOrDefault(endpoint, 0)));
+            }
+        }
+        return limits;
+    }
+
+    /**
+     * Retries of transient failures in {@link RestClient}; {@code retry.max.attempts=1} disables them.
+     */
+    public static RetryPolicy getRetryPolicy() {
+        Set<Integer> statuses = Arrays.stream(getProperty(ConfigKey.RETRY_STATUSES, "502,503,504").split(","))
+                .map(String::trim)
+                .filter(status -> !status.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toSet());
+        return new RetryPolicy(
+                Integer.parseInt(getProperty(ConfigKey.RETRY_MAX_ATTEMPTS, "3")),
+                Duration.ofMillis(Long.parseLong(getProperty(ConfigKey.RETRY_BASE_DELAY_MILLIS, "100"))),
+                Duration.ofMillis(Long.parseLong(getProperty(ConfigKey.RETRY_MAX_DELAY_MILLIS, "2000"))),
+                statuses);
+    }
+
+    /**
+     * Runs the suite against the embedded {@link StubPlayerServer} instead of {@code base.url}.
+     */
+    public static boolean isStubEnabled() {
+        return Boolean.parseBoolean(getProperty(ConfigKey.STUB_ENABLED, "false"));
+    }
+
+    public static StubServerConfig getStubServerConfig() {
+        return new StubServerConfig(
+                Integer.parseInt(getProperty(ConfigKey.STUB_PORT, "0")),
+                Duration.ofMillis(Long.parseLong(getProperty(ConfigKey.STUB_LATENCY_MILLIS, "0"))),
+                Duration.ofMillis(Long.parseLong(getProperty(ConfigKey.STUB_LATENCY_JITTER_MILLIS, "0"))),
+                Double.parseDouble(getProperty(ConfigKey.STUB_ERROR_RATE, "0")));
+    }
+
+    /**
+     * How often the load driver diffs its shadow model against get/all; zero disables the shadow model.
+     */
+    public static Duration getShadowCheckInterval() {
+        return Duration.ofSeconds(Long.parseLong(getProperty(ConfigKey.SHADOW_CHECK_INTERVAL_SECONDS, "0")));
+    }
+
+    /**
+     * How long a differential check waits for writes that were in flight during its snapshot.
+     */
+    public static Duration getShadowSettleTimeout() {
+        return Duration.ofSeconds(Long.parseLong(getProperty(ConfigKey.SHADOW_SETTLE_TIMEOUT_SECONDS, "30")));
+    }
+
+    /**
+     * Players shared by all clients of the linearizability mode; fewer players means more contention.
+     */
+    public static int getLinearizabilityPlayers() {
+        return Integer.parseInt(getProperty(ConfigKey.LINEARIZABILITY_PLAYERS, "3"));
+    }
+
+    /**
+     * Concurrent clients of the linearizability mode, each issuing its operations back to back.
+     */
+    public static int getLinearizabilityClients() {
+        return Integer.parseInt(getProperty(ConfigKey.LINEARIZABILITY_CLIENTS, "8"));
+    }
+
+    /**
+     * Gets and updates issued by each client of the linearizability mode.
+     */
+    public static int getLinearizabilityOperations() {
+        return Integer.parseInt(getProperty(ConfigKey.LINEARIZABILITY_OPERATIONS, "100"));
+    }
+
+    /**
+     * Share of gets among the operations of the linearizability mode, the rest are updates.
+     */
+    public static double getLinearizabilityReadRatio() {
+        return Double.parseDouble(getProperty(ConfigKey.LINEARIZABILITY_READ_RATIO, "0.5"));
+    }
+
+    /**
+     * Search budget of the linearizability check per player, after which the player is reported as unknown.
+     */
+    public static long getLinearizabilityMaxSteps() {
+        return Long.parseLong(getProperty(ConfigKey.LINEARIZABILITY_MAX_STEPS, "10000000"));
+    }
+
+    private static <T> Map<ApiEndpoint, T> parseEndpointValues(ConfigKey key, Function<String, T> parser) {
+        Map<ApiEndpoint, T> values = new EnumMap<>(ApiEndpoint.class);
+        for (String pair : getProperty(key, "").split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            String[] parts = pair.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint:value in %s, got '%s'".formatted(key.getKey(), pair));
+            }
+            values.put(ApiEndpoint.valueOf(parts[0].trim().toUpperCase()), parser.apply(parts[1].trim()));
+        }
+        return values;
+    }
+
+    /**
+     * System properties (e.g. forwarded from Gradle with -P) take precedence over test.properties.
+     */
+    private static String getProperty(ConfigKey key, String defaultValue) {
+        String systemValue = System.getProperty(key.getKey());
+        if (systemValue != null && !systemValue.isEmpty()) {
+            return systemValue;
+        }
+        return PROPERTIES.getProperty(key.getKey(), defaultValue);
+    }
 }
@@ -4,8 +4,14 @@ import dto.PlayerDetailsDto;
 import entities.Gender;
 import entities.Role;
 
+import java.security.SecureRandom;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
 
 public class TestDataGenerator {
 
@@ -16,10 +22,52 @@ public class TestDataGenerator {
     public static final int MAX_PASSWORD_LENGTH = 15;
     public static final int DEFAULT_PASSWORD_LENGTH = 10;
 
-    private static final String PASSWORD_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    /**
+     * Random per-JVM prefix of generated logins and screen names, so parallel JVMs and repeated runs never collide.
+     */
+    public static final String RUN_ID = Long.toString(new SecureRandom().nextLong() >>> 24, 36);
+
+    private static final String DIGITS = "0123456789";
+    private static final String PASSWORD_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ" + DIGITS;
 
+    private static final OptionalLong SEED = TestConfig.getDataSeed();
+    // threads that were never reseeded for a test still get a stable sequence, keyed by thread name
+    private static final ThreadLocal<SplittableRandom> seededRandom =
+            ThreadLocal.withInitial(() -> seededRandomFor(Thread.currentThread().getName()));
+
+    private static final int SEQUENCE_BLOCK_SIZE = 1024;
+    private static final AtomicLong nextSequenceBlock = new AtomicLong();
+    // {next, end} of the block reserved by the current thread
+    private static final ThreadLocal<long[]> sequenceBlock = ThreadLocal.withInitial(() -> new long[2]);
+
+    /**
+     * Suite seed from {@link TestConfig#getDataSeed()}; empty when data is random.
+     */
+    public static OptionalLong getSeed() {
+        return SEED;
+    }
+
+    /**
+     * Restarts the current thread's random sequence for the given key (e.g. test method and parameters),
+     * so with the same seed the same key always yields the same ages, passwords, etc. Does nothing without a seed.
+     * <p>
+     * Logins and screen names keep their run id and stay unique between runs.
+     */
+    public static void reseed(String key) {
+        if (SEED.isPresent()) {
+            seededRandom.set(seededRandomFor(key));
+        }
+    }
+
+    /**
+     * Unique login: run id plus a sequence number unique within this JVM.
+     */
     public static String getRandomLogin() {
-        return "user_" + System.currentTimeMillis();
+        return "user_" + uniqueSuffix();
+    }
+
+    public static String getRandomScreenName() {
+        return "screenName_" + uniqueSuffix();
     }
 
     public static String getRandomPassword() {
@@ -27,12 +75,17 @@ public class TestDataGenerator {
     }
 
     public static String getRandomPassword(int length) {
+        return password(length, random());
+    }
+
+    private static String password(int length, RandomGenerator rnd) {
         if (length <= 0) length = DEFAULT_PASSWORD_LENGTH;
         StringBuilder sb = new StringBuilder(length);
-        ThreadLocalRandom rnd = ThreadLocalRandom.current();
         for (int i = 0; i < length; i++) {
             sb.append(PASSWORD_CHARS.charAt(rnd.nextInt(PASSWORD_CHARS.length())));
         }
+        // the API requires a digit; without this about one in six passwords would be rejected
+        sb.setCharAt(rnd.nextInt(length), DIGITS.charAt(rnd.nextInt(DIGITS.length())));
         return sb.toString();
     }
 
@@ -40,10 +93,22 @@ public class TestDataGenerator {
      * Generate a random PlayerDetailsDto with the provided role.
      */
     public static PlayerDetailsDto getRandomPlayerDetails(Role role) {
+        return playerDetails(role, random());
+    }
+
+    /**
+     * Same as {@link #getRandomPlayerDetails(Role)}, but never drawn from the seeded sequence, for players created
+     * in the background (e.g. {@link ActorPool}) whose number depends on timing and must not shift a test's data.
+     */
+    public static PlayerDetailsDto getUnseededPlayerDetails(Role role) {
+        return playerDetails(role, ThreadLocalRandom.current());
+    }
+
+    private static PlayerDetailsDto playerDetails(Role role, RandomGenerator rnd) {
         String login = getRandomLogin();
-        String password = getRandomPassword();
-        int age = ThreadLocalRandom.current().nextInt(MIN_AGE, MAX_AGE);
-        String screenName = "screenName_" + System.currentTimeMillis();
+        String password = password(DEFAULT_PASSWORD_LENGTH, rnd);
+        int age = rnd.nextInt(MIN_AGE, MAX_AGE);
+        String screenName = getRandomScreenName();
         Gender gender = Arrays.stream(Gender.values()).findAny().orElseThrow(() -> new RuntimeException("No genders"));
         return new PlayerDetailsDto(age, gender, login, password, role, screenName);
     }
@@ -55,4 +120,39 @@ public class TestDataGenerator {
         return getRandomPlayerDetails(Role.USER);
     }
 
+    /**
+     * Per-thread generator, so neither mode shares state between threads.
+     */
+    private static RandomGenerator random() {
+        return SEED.isPresent() ? seededRandom.get() : ThreadLocalRandom.current();
+    }
+
+    private static SplittableRandom seededRandomFor(String key) {
+        return new SplittableRandom(SEED.getAsLong() ^ fnv1a64(key));
+    }
+
+    private static long fnv1a64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static String uniqueSuffix() {
+        return RUN_ID + "_" + Long.toString(nextSequence(), 36);
+    }
+
+    /**
+     * Threads reserve sequence numbers in blocks, so the shared counter is touched once per block instead of once per id.
+     */
+    private static long nextSequence() {
+        long[] block = sequenceBlock.get();
+        if (block[0] == block[1]) {
+            block[0] = nextSequenceBlock.getAndAdd(SEQUENCE_BLOCK_SIZE);
+            block[1] = block[0] + SEQUENCE_BLOCK_SIZE;
+        }
+        return block[0]++;
+    }
+
 }
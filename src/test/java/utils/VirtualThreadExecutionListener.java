@@ -0,0 +1,30 @@
+package utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import org.testng.TestNG;
+
+/**
+ * Switches parallel test execution to virtual threads when {@code virtual.threads.enabled} is set.
+ * Registered through {@code META-INF/services/org.testng.ITestNGListener}, so it works for IDE and Gradle runs alike.
+ * <p>
+ * The executor factory has to be installed on the running {@link TestNG} instance before suites start:
+ * Gradle's {@code threadPoolFactoryClass} option relies on a setter that no longer exists in TestNG 7.9+.
+ */
+public class VirtualThreadExecutionListener implements IExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadExecutionListener.class);
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onExecutionStart() {
+        if (!TestConfig.isVirtualThreadsEnabled()) {
+            return;
+        }
+
+        int maxConcurrency = TestConfig.getVirtualThreadsMaxConcurrency();
+        TestNG.getDefault().setExecutorServiceFactory(new VirtualThreadExecutorServiceFactory(maxConcurrency));
+        logger.info("Running parallel tests on virtual threads, max concurrency {}", maxConcurrency);
+    }
+}
@@ -0,0 +1,85 @@
+package utils;
+
+import org.testng.IExecutorServiceFactory;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs every parallel test method on its own virtual thread.
+ * Pool sizes requested by TestNG (suite {@code thread-count}) are ignored; concurrency is limited by {@code maxConcurrency} instead.
+ */
+public class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+
+    private final int maxConcurrency;
+
+    public VirtualThreadExecutorServiceFactory(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive, got %d".formatted(maxConcurrency));
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        return new BoundedVirtualThreadExecutor(maxConcurrency);
+    }
+
+    /**
+     * Starts a virtual thread per task right away; the task waits for a permit on its own (cheap) virtual thread,
+     * so TestNG's submitting thread is never blocked.
+     */
+    private static final class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("testng-vt-", 0).factory());
+        private final Semaphore permits;
+
+        private BoundedVirtualThreadExecutor(int maxConcurrency) {
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}